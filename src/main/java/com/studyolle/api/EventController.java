@@ -2,11 +2,14 @@ package com.studyolle.api;
 
 import com.studyolle.api.form.EventForm;
 import com.studyolle.api.validator.EventValidator;
+import com.studyolle.application.EnrollmentService;
 import com.studyolle.application.EventService;
 import com.studyolle.application.StudyService;
 import com.studyolle.domain.account.Account;
+import com.studyolle.domain.enrollment.EnrollmentRejectedException;
 import com.studyolle.domain.event.Event;
 import com.studyolle.domain.study.Study;
+import com.studyolle.domain.study.StudySnapshot;
 import com.studyolle.global.annotation.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -15,10 +18,9 @@ import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Controller
@@ -30,6 +32,7 @@ public class EventController {
     private final ModelMapper modelMapper;
     private final EventService eventService;
     private final EventValidator eventValidator;
+    private final EnrollmentService enrollmentService;
 
     @InitBinder("eventForm")
     public void initBinder(WebDataBinder webDataBinder) {
@@ -38,9 +41,9 @@ public class EventController {
 
     @GetMapping("/new-event")
     public String newEventForm(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        StudySnapshot study = studyService.getStudyToManage(account, path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         model.addAttribute(new EventForm());
 
         return "event/form";
@@ -56,7 +59,7 @@ public class EventController {
         Study study = studyService.getStudyToUpdateStatus(account, path);
         if (errors.hasErrors()) {
             model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute("study", studyService.getStudy(path));
             return "event/form";
         }
 
@@ -72,32 +75,90 @@ public class EventController {
             @PathVariable Long id,
             Model model
     ) {
+        StudySnapshot study = studyService.getStudy(path);
         model.addAttribute(account);
-        model.addAttribute(eventService.findEvent(id));
-        model.addAttribute(studyService.getStudy(path));
+        model.addAttribute("event", eventService.getEventDetail(id, study.getId()));
+        model.addAttribute("study", study);
         return "event/view";
     }
 
     @GetMapping("/events")
-    public String viewStudyEvents(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+    public String viewStudyEvents(@CurrentUser Account account, @PathVariable String path,
+                                  @RequestParam(defaultValue = "0") int page, Model model) {
+        StudySnapshot study = studyService.getStudy(path);
         model.addAttribute(account);
-        model.addAttribute(study);
-
-        List<Event> events = eventService.findByStudy(study);
-        List<Event> newEvents = new ArrayList<>();
-        List<Event> oldEvents = new ArrayList<>();
-        events.forEach(event -> {
-            if (event.getEndDateTime().isBefore(LocalDateTime.now())) {
-                oldEvents.add(event);
-            } else {
-                newEvents.add(event);
-            }
-        });
-
-        model.addAttribute("newEvents", newEvents);
-        model.addAttribute("oldEvents", oldEvents);
+        model.addAttribute("study", study);
+        model.addAttribute("newEvents", eventService.getUpcomingEvents(study.getId()));
+        model.addAttribute("oldEvents", eventService.getPastEvents(study.getId(), Math.max(page, 0)));
 
         return "study/events";
     }
+
+    @PostMapping("/events/{id}/enroll")
+    public String enroll(@CurrentUser Account account, @PathVariable String path, @PathVariable Long id,
+                         RedirectAttributes attributes) {
+        StudySnapshot study = studyService.getStudy(path);
+        eventService.checkIfEventOfStudy(id, study.getId());
+        return redirectToEvent(study, id, attributes, () -> enrollmentService.enroll(id, account.getId()));
+    }
+
+    @PostMapping("/events/{id}/leave")
+    public String leave(@CurrentUser Account account, @PathVariable String path, @PathVariable Long id,
+                        RedirectAttributes attributes) {
+        StudySnapshot study = studyService.getStudy(path);
+        eventService.checkIfEventOfStudy(id, study.getId());
+        return redirectToEvent(study, id, attributes, () -> enrollmentService.disenroll(id, account.getId()));
+    }
+
+    @PostMapping("/events/{id}/enrollments/accept")
+    public String acceptEnrollments(@CurrentUser Account account, @PathVariable String path, @PathVariable Long id,
+                                    @RequestParam List<Long> enrollmentIds, RedirectAttributes attributes) {
+        StudySnapshot study = getEventToManage(account, path, id);
+        return redirectToEvent(study, id, attributes, () -> enrollmentService.acceptEnrollments(id, enrollmentIds));
+    }
+
+    @PostMapping("/events/{id}/enrollments/reject")
+    public String rejectEnrollments(@CurrentUser Account account, @PathVariable String path, @PathVariable Long id,
+                                    @RequestParam List<Long> enrollmentIds, RedirectAttributes attributes) {
+        StudySnapshot study = getEventToManage(account, path, id);
+        return redirectToEvent(study, id, attributes, () -> enrollmentService.rejectEnrollments(id, enrollmentIds));
+    }
+
+    @PostMapping("/events/{id}/enrollments/checkin")
+    public String checkInEnrollments(@CurrentUser Account account, @PathVariable String path, @PathVariable Long id,
+                                     @RequestParam List<Long> enrollmentIds, RedirectAttributes attributes) {
+        StudySnapshot study = getEventToManage(account, path, id);
+        return redirectToEvent(study, id, attributes, () -> enrollmentService.checkIn(id, enrollmentIds));
+    }
+
+    @PostMapping("/events/{id}/enrollments/cancel-checkin")
+    public String cancelCheckInEnrollments(@CurrentUser Account account, @PathVariable String path,
+                                           @PathVariable Long id, @RequestParam List<Long> enrollmentIds,
+                                           RedirectAttributes attributes) {
+        StudySnapshot study = getEventToManage(account, path, id);
+        return redirectToEvent(study, id, attributes, () -> enrollmentService.cancelCheckIn(id, enrollmentIds));
+    }
+
+    @PostMapping("/events/{id}/check-in-token")
+    public String checkInByToken(@CurrentUser Account account, @PathVariable String path, @PathVariable Long id,
+                                 @RequestParam String token, RedirectAttributes attributes) {
+        StudySnapshot study = getEventToManage(account, path, id);
+        return redirectToEvent(study, id, attributes, () -> attributes.addFlashAttribute("message",
+                enrollmentService.checkInByToken(id, token) ? "체크인했습니다." : "체크인 코드를 확인해 주세요."));
+    }
+
+    private String redirectToEvent(StudySnapshot study, Long id, RedirectAttributes attributes, Runnable action) {
+        try {
+            action.run();
+        } catch (EnrollmentRejectedException e) {
+            attributes.addFlashAttribute("message", e.getMessage());
+        }
+        return "redirect:/study/" + study.getEncodedPath() + "/events/" + id;
+    }
+
+    private StudySnapshot getEventToManage(Account account, String path, Long id) {
+        StudySnapshot study = studyService.getStudyToManage(account, path);
+        eventService.checkIfEventOfStudy(id, study.getId());
+        return study;
+    }
 }
@@ -1,18 +1,24 @@
 package com.studyolle.api;
 
+import com.studyolle.application.FeedService;
 import com.studyolle.domain.account.Account;
 import com.studyolle.global.annotation.CurrentUser;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
+@RequiredArgsConstructor
 public class MainController {
 
+    private final FeedService feedService;
+
     @GetMapping("/")
     public String home(@CurrentUser Account account, Model model) {
         if (account != null) {
             model.addAttribute(account);
+            model.addAttribute("feed", feedService.getFeed(account));
         }
         return "index";
     }
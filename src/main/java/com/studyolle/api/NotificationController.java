@@ -0,0 +1,52 @@
+package com.studyolle.api;
+
+import com.studyolle.application.NotificationService;
+import com.studyolle.domain.account.Account;
+import com.studyolle.global.annotation.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@Controller
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @GetMapping("/notifications")
+    public String getNotifications(@CurrentUser Account account, @RequestParam(defaultValue = "0") int page,
+                                   Model model) {
+        putCategorizedNotifications(model, account, false, page);
+        return "notification/list";
+    }
+
+    @GetMapping("/notifications/old")
+    public String getOldNotifications(@CurrentUser Account account, @RequestParam(defaultValue = "0") int page,
+                                      Model model) {
+        putCategorizedNotifications(model, account, true, page);
+        return "notification/list";
+    }
+
+    @PostMapping("/notifications/read")
+    public String markRead(@CurrentUser Account account, @RequestParam(defaultValue = "") List<Long> ids) {
+        notificationService.markRead(account.getId(), ids);
+        return "redirect:/notifications";
+    }
+
+    @PostMapping("/notifications/read-all")
+    public String markAllRead(@CurrentUser Account account) {
+        notificationService.markAllRead(account.getId());
+        return "redirect:/notifications";
+    }
+
+    private void putCategorizedNotifications(Model model, Account account, boolean checked, int page) {
+        model.addAttribute(account);
+        model.addAttribute("isNew", !checked);
+        model.addAttribute("notifications", notificationService.getNotifications(account.getId(), checked, page));
+    }
+}
@@ -0,0 +1,39 @@
+package com.studyolle.api;
+
+import com.studyolle.application.ProfileImageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+
+import static com.studyolle.application.ProfileImageService.PROFILE_IMAGE_URL;
+
+@Controller
+@RequiredArgsConstructor
+public class ProfileImageController {
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ProfileImageService profileImageService;
+
+    @GetMapping(PROFILE_IMAGE_URL + "{hash}")
+    @ResponseBody
+    public ResponseEntity<byte[]> profileImage(@PathVariable String hash, WebRequest webRequest) {
+        if (webRequest.checkNotModified(hash)) {
+            return null;
+        }
+
+        return profileImageService.findProfileImage(hash)
+                .map(image -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(image.getContentType()))
+                        .eTag(image.getHash())
+                        .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL)
+                        .body(image.getData()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,23 @@
+package com.studyolle.api;
+
+import com.studyolle.application.push.PushChannel;
+import com.studyolle.domain.account.UserAccount;
+import com.studyolle.global.annotation.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class PushController {
+
+    private final PushChannel pushChannel;
+
+    @GetMapping(value = "/push", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@CurrentUser UserAccount userAccount, @RequestParam(required = false) Long event) {
+        return pushChannel.connect(userAccount.getAccountId(), event);
+    }
+}
@@ -0,0 +1,30 @@
+package com.studyolle.api;
+
+import com.studyolle.api.form.StudySearchForm;
+import com.studyolle.application.StudySearchIndex;
+import com.studyolle.domain.account.Account;
+import com.studyolle.global.annotation.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+
+@Controller
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final StudySearchIndex studySearchIndex;
+
+    @GetMapping("/search/study")
+    public String searchStudy(@CurrentUser Account account, StudySearchForm studySearchForm,
+                              @PageableDefault(size = 9) Pageable pageable, Model model) {
+        if (account != null) {
+            model.addAttribute(account);
+        }
+        model.addAttribute(studySearchForm);
+        model.addAttribute("studyPage", studySearchIndex.search(studySearchForm, pageable));
+        return "search";
+    }
+}
@@ -1,16 +1,16 @@
 package com.studyolle.api;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolle.api.form.*;
 import com.studyolle.api.validator.NicknameValidator;
 import com.studyolle.api.validator.PasswordFormValidator;
+import com.studyolle.api.validator.ProfileValidator;
 import com.studyolle.application.AccountService;
+import com.studyolle.application.TagDictionary;
+import com.studyolle.application.TagService;
+import com.studyolle.application.ZoneRegistry;
 import com.studyolle.domain.account.Account;
 import com.studyolle.domain.tag.Tag;
-import com.studyolle.domain.tag.TagRepository;
 import com.studyolle.domain.zone.Zone;
-import com.studyolle.domain.zone.ZoneRepository;
 import com.studyolle.global.annotation.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -24,6 +24,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -37,9 +38,10 @@ public class SettingsController {
     private final AccountService accountService;
     private final ModelMapper modelMapper;
     private final NicknameValidator nicknameValidator;
-    private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
-    private final ObjectMapper objectMapper;
+    private final ProfileValidator profileValidator;
+    private final ZoneRegistry zoneRegistry;
+    private final TagService tagService;
+    private final TagDictionary tagDictionary;
 
     @InitBinder("passwordForm")
     public void passwordFormInitBinder(WebDataBinder webDataBinder) {
@@ -51,6 +53,11 @@ public class SettingsController {
         webDataBinder.addValidators(nicknameValidator);
     }
 
+    @InitBinder("profile")
+    public void profileInitBinder(WebDataBinder webDataBinder) {
+        webDataBinder.addValidators(profileValidator);
+    }
+
     @GetMapping(PROFILE)
     public String updateProfileForm(@CurrentUser Account account, Model model) {
         model.addAttribute(account);
@@ -112,14 +119,13 @@ public class SettingsController {
     }
 
     @GetMapping(TAGS)
-    public String updateTags(@CurrentUser Account account, Model model) throws JsonProcessingException {
+    public String updateTags(@CurrentUser Account account, Model model) {
         model.addAttribute(account);
 
         Set<Tag> tags = accountService.getTags(account);
         model.addAttribute("tags", tags.stream().map(Tag::getTitle).collect(Collectors.toList()));
 
-        List<String> allTags = tagRepository.findAll().stream().map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTags));
+        model.addAttribute("whitelist", tagDictionary.getWhitelistUrl());
 
         return SETTINGS + TAGS;
     }
@@ -127,21 +133,25 @@ public class SettingsController {
     @PostMapping(TAGS + "/add")
     @ResponseBody
     public ResponseEntity<Void> addTag(@CurrentUser Account account, @RequestBody TagForm tagForm) {
-        String title = tagForm.getTagTitle();
-        Tag tag = tagRepository.findByTitle(title);
-        if (tag == null) {
-            tag = tagRepository.save(Tag.builder().title(title).build());
-        }
-
+        Tag tag = tagService.findOrCreateNew(tagForm.getTagTitle());
         accountService.addTag(account, tag);
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping(TAGS + "/batch")
+    @ResponseBody
+    public ResponseEntity<Void> updateTags(@CurrentUser Account account, @Valid @RequestBody TagsForm tagsForm) {
+        List<Tag> tags = tagsForm.getTagTitles().stream()
+                .map(tagService::findOrCreateNew)
+                .collect(Collectors.toList());
+        accountService.updateTags(account, tags);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping(TAGS + "/remove")
     @ResponseBody
     public ResponseEntity<Void> removeTag(@CurrentUser Account account, @RequestBody TagForm tagForm) {
-        String title = tagForm.getTagTitle();
-        Tag tag = tagRepository.findByTitle(title);
+        Tag tag = tagService.findTag(tagForm.getTagTitle()).orElse(null);
         if (tag == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -151,13 +161,12 @@ public class SettingsController {
     }
 
     @GetMapping(ZONES)
-    public String updateZonesForm(@CurrentUser Account account, Model model) throws JsonProcessingException {
+    public String updateZonesForm(@CurrentUser Account account, Model model) {
         model.addAttribute(account);
 
         Set<Zone> zones = accountService.getZones(account);
         model.addAttribute("zones", zones.stream().map(Zone::toString).collect(Collectors.toList()));
-        List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
+        model.addAttribute("whitelist", zoneRegistry.getWhitelistUrl());
 
         return SETTINGS + ZONES;
     }
@@ -165,7 +174,7 @@ public class SettingsController {
     @PostMapping(ZONES + "/add")
     @ResponseBody
     public ResponseEntity<Void> addZone(@CurrentUser Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneRegistry.find(zoneForm.getZoneName()).orElse(null);
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -174,10 +183,23 @@ public class SettingsController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping(ZONES + "/batch")
+    @ResponseBody
+    public ResponseEntity<Void> updateZones(@CurrentUser Account account, @Valid @RequestBody ZonesForm zonesForm) {
+        Optional<List<Zone>> added = zoneRegistry.findAll(zonesForm.getAddedZoneNames());
+        Optional<List<Zone>> removed = zoneRegistry.findAll(zonesForm.getRemovedZoneNames());
+        if (added.isEmpty() || removed.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        accountService.updateZones(account, added.get(), removed.get());
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping(ZONES + "/remove")
     @ResponseBody
     public ResponseEntity<Void> removeZone(@CurrentUser Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneRegistry.find(zoneForm.getZoneName()).orElse(null);
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -6,6 +6,7 @@ import com.studyolle.application.StudyService;
 import com.studyolle.domain.account.Account;
 import com.studyolle.domain.study.Study;
 import com.studyolle.domain.study.StudyRepository;
+import com.studyolle.domain.study.StudySnapshot;
 import com.studyolle.global.annotation.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import javax.validation.Valid;
 import java.net.URLEncoder;
@@ -57,17 +59,23 @@ public class StudyController {
 
     @GetMapping("/study/{path}")
     public String viewStudy(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+        StudySnapshot study = studyService.getStudy(path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         return "study/view";
     }
 
     @GetMapping("/study/{path}/members")
-    public String viewStudyMembers(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+    public String viewStudyMembers(@CurrentUser Account account, @PathVariable String path,
+                                   @RequestParam(defaultValue = "") String managersAfter,
+                                   @RequestParam(defaultValue = "") String membersAfter, Model model) {
+        StudySnapshot study = studyService.getStudy(path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
+        model.addAttribute("managers", studyService.getManagers(study.getId(), managersAfter));
+        model.addAttribute("members", studyService.getMembers(study.getId(), membersAfter));
+        model.addAttribute("managersAfter", managersAfter);
+        model.addAttribute("membersAfter", membersAfter);
         return "study/members";
     }
 
@@ -1,18 +1,19 @@
 package com.studyolle.api;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolle.api.form.StudyDescriptionForm;
 import com.studyolle.api.form.TagForm;
+import com.studyolle.api.form.TagsForm;
 import com.studyolle.api.form.ZoneForm;
+import com.studyolle.api.form.ZonesForm;
 import com.studyolle.application.StudyService;
+import com.studyolle.application.TagDictionary;
 import com.studyolle.application.TagService;
+import com.studyolle.application.ZoneRegistry;
 import com.studyolle.domain.account.Account;
 import com.studyolle.domain.study.Study;
+import com.studyolle.domain.study.StudySnapshot;
 import com.studyolle.domain.tag.Tag;
-import com.studyolle.domain.tag.TagRepository;
 import com.studyolle.domain.zone.Zone;
-import com.studyolle.domain.zone.ZoneRepository;
 import com.studyolle.global.annotation.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -25,6 +26,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Controller
@@ -34,10 +36,9 @@ public class StudySettingsController {
 
     private final StudyService studyService;
     private final ModelMapper modelMapper;
-    private final ZoneRepository zoneRepository;
-    private final ObjectMapper objectMapper;
-    private final TagRepository tagRepository;
+    private final ZoneRegistry zoneRegistry;
     private final TagService tagService;
+    private final TagDictionary tagDictionary;
 
     @GetMapping("/description")
     public String viewStudySetting(
@@ -45,9 +46,9 @@ public class StudySettingsController {
             @PathVariable String path,
             Model model
     ) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudySnapshot study = studyService.getStudyToManage(account, path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         model.addAttribute(modelMapper.map(study, StudyDescriptionForm.class));
         return "study/settings/description";
     }
@@ -63,7 +64,7 @@ public class StudySettingsController {
         Study study = studyService.getStudyToUpdate(account, path);
         if (errors.hasErrors()) {
             model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute("study", studyService.getStudy(path));
             return "study/settings/description";
         }
 
@@ -74,9 +75,9 @@ public class StudySettingsController {
 
     @GetMapping("/banner")
     public String studyImageForm(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudySnapshot study = studyService.getStudyToManage(account, path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
 
         return "study/settings/banner";
     }
@@ -93,7 +94,7 @@ public class StudySettingsController {
 
         if (errors.hasErrors()) {
             model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute("study", studyService.getStudy(path));
             return "study/settings/banner";
         }
 
@@ -118,17 +119,14 @@ public class StudySettingsController {
 
 
     @GetMapping("/tags")
-    public String studyTagsForm(@CurrentUser Account account, @PathVariable String path, Model model)
-            throws JsonProcessingException {
-        Study study = studyService.getStudyToUpdate(account, path);
+    public String studyTagsForm(@CurrentUser Account account, @PathVariable String path, Model model) {
+        StudySnapshot study = studyService.getStudyToManage(account, path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
 
         model.addAttribute("tags", study.getTags().stream()
                 .map(Tag::getTitle).collect(Collectors.toList()));
-        List<String> allTagTitles = tagRepository.findAll().stream()
-                .map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTagTitles));
+        model.addAttribute("whitelist", tagDictionary.getWhitelistUrl());
 
         return "study/settings/tags";
     }
@@ -142,11 +140,23 @@ public class StudySettingsController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/tags/batch")
+    @ResponseBody
+    public ResponseEntity<Void> updateTags(@CurrentUser Account account, @PathVariable String path,
+                                           @Valid @RequestBody TagsForm tagsForm) {
+        StudySnapshot study = studyService.getStudyToManage(account, path);
+        List<Tag> tags = tagsForm.getTagTitles().stream()
+                .map(tagService::findOrCreateNew)
+                .collect(Collectors.toList());
+        studyService.updateTags(study, tags);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/tags/remove")
     @ResponseBody
     public ResponseEntity<Void> removeTag(@CurrentUser Account account, @PathVariable String path, @RequestBody TagForm tagForm) {
         Study study = studyService.getStudyToUpdateTag(account, path);
-        Tag tag = tagRepository.findByTitle(tagForm.getTagTitle());
+        Tag tag = tagService.findTag(tagForm.getTagTitle()).orElse(null);
         if (tag == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -155,14 +165,13 @@ public class StudySettingsController {
     }
 
     @GetMapping("/zones")
-    public String studyZonesForm(@CurrentUser Account account, @PathVariable String path, Model model) throws JsonProcessingException {
-        Study study = studyService.getStudyToUpdate(account, path);
+    public String studyZonesForm(@CurrentUser Account account, @PathVariable String path, Model model) {
+        StudySnapshot study = studyService.getStudyToManage(account, path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         model.addAttribute("zones", study.getZones().stream()
                 .map(Zone::toString).collect(Collectors.toList()));
-        List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
+        model.addAttribute("whitelist", zoneRegistry.getWhitelistUrl());
         return "study/settings/zones";
     }
 
@@ -170,7 +179,7 @@ public class StudySettingsController {
     @ResponseBody
     public ResponseEntity<Void> addZone(@CurrentUser Account account, @PathVariable String path, @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneRegistry.find(zoneForm.getZoneName()).orElse(null);
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -178,11 +187,26 @@ public class StudySettingsController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/zones/batch")
+    @ResponseBody
+    public ResponseEntity<Void> updateZones(@CurrentUser Account account, @PathVariable String path,
+                                            @Valid @RequestBody ZonesForm zonesForm) {
+        StudySnapshot study = studyService.getStudyToManage(account, path);
+        Optional<List<Zone>> added = zoneRegistry.findAll(zonesForm.getAddedZoneNames());
+        Optional<List<Zone>> removed = zoneRegistry.findAll(zonesForm.getRemovedZoneNames());
+        if (added.isEmpty() || removed.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        studyService.updateZones(study, added.get(), removed.get());
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/zones/remove")
     @ResponseBody
     public ResponseEntity<Void> removeZone(@CurrentUser Account account, @PathVariable String path, @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneRegistry.find(zoneForm.getZoneName()).orElse(null);
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -192,9 +216,9 @@ public class StudySettingsController {
 
     @GetMapping("/study")
     public String studySettingForm(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudySnapshot study = studyService.getStudyToManage(account, path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         return "study/settings/study";
     }
 
@@ -250,7 +274,7 @@ public class StudySettingsController {
         Study study = studyService.getStudyToUpdateStatus(account, path);
         if (!studyService.isValidPath(newPath)) {
             model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute("study", studyService.getStudy(path));
             model.addAttribute("studyPathError", "해당 스터디 경로는 사용할 수 없습니다. 다른 값을 입력하세요.");
             return "study/settings/study";
         }
@@ -266,7 +290,7 @@ public class StudySettingsController {
         Study study = studyService.getStudyToUpdateStatus(account, path);
         if (!studyService.isValidTitle(newTitle)) {
             model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute("study", studyService.getStudy(path));
             model.addAttribute("studyTitleError", "스터디 이름을 다시 입력하세요.");
             return "study/settings/study";
         }
@@ -0,0 +1,52 @@
+package com.studyolle.api;
+
+import com.studyolle.application.TagDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+import static com.studyolle.application.TagDictionary.TAG_WHITELIST_URL;
+
+@Controller
+@RequiredArgsConstructor
+public class TagController {
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final TagDictionary tagDictionary;
+
+    @GetMapping("/tags/suggest")
+    @ResponseBody
+    public List<String> suggest(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        return tagDictionary.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    @GetMapping(TAG_WHITELIST_URL)
+    @ResponseBody
+    public ResponseEntity<byte[]> whitelist(@RequestParam(required = false) String v, WebRequest webRequest) {
+        String version = tagDictionary.getVersion();
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(version);
+        if (version.equals(v)) {
+            response.header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        } else {
+            response.cacheControl(CacheControl.noCache());
+        }
+        return response.body(tagDictionary.getWhitelist());
+    }
+}
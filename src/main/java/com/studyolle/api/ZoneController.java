@@ -0,0 +1,63 @@
+package com.studyolle.api;
+
+import com.studyolle.application.ZoneRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+
+import static com.studyolle.application.ZoneRegistry.ZONE_PROVINCES_URL;
+import static com.studyolle.application.ZoneRegistry.ZONE_WHITELIST_URL;
+
+@Controller
+@RequiredArgsConstructor
+public class ZoneController {
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String LOADING_RETRY_AFTER_SECONDS = "5";
+
+    private final ZoneRegistry zoneRegistry;
+
+    @GetMapping(ZONE_WHITELIST_URL)
+    @ResponseBody
+    public ResponseEntity<byte[]> whitelist(@RequestParam(required = false) String v, WebRequest webRequest) {
+        return versioned(v, webRequest, zoneRegistry.getWhitelist());
+    }
+
+    @GetMapping(ZONE_PROVINCES_URL)
+    @ResponseBody
+    public ResponseEntity<byte[]> provinces(@RequestParam(required = false) String v, WebRequest webRequest) {
+        return versioned(v, webRequest, zoneRegistry.getProvinces());
+    }
+
+    private ResponseEntity<byte[]> versioned(String v, WebRequest webRequest, byte[] body) {
+        if (!zoneRegistry.isLoaded()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, LOADING_RETRY_AFTER_SECONDS)
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        String version = zoneRegistry.getVersion();
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(version);
+        if (version.equals(v)) {
+            response.header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        } else {
+            response.cacheControl(CacheControl.noCache());
+        }
+        return response.body(body);
+    }
+}
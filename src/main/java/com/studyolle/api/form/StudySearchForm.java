@@ -0,0 +1,26 @@
+package com.studyolle.api.form;
+
+import com.studyolle.application.StudySearchDocument;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class StudySearchForm {
+
+    private String keyword;
+
+    private Boolean recruiting;
+
+    private Long zone;
+
+    private String tag;
+
+    public boolean matches(StudySearchDocument document) {
+        return (recruiting == null || document.isRecruiting() == recruiting)
+                && (zone == null || document.hasZone(zone))
+                && (tag == null || tag.isBlank() || document.getTags().contains(tag));
+    }
+}
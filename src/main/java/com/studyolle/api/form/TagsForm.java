@@ -0,0 +1,19 @@
+package com.studyolle.api.form;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TagsForm {
+
+    @Size(max = 100)
+    private List<@NotBlank @Size(max = 50) String> tagTitles = new ArrayList<>();
+}
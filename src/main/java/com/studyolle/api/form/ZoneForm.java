@@ -1,6 +1,5 @@
 package com.studyolle.api.form;
 
-import com.studyolle.domain.zone.Zone;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,23 +10,4 @@ import lombok.Setter;
 public class ZoneForm {
 
     private String zoneName;
-
-    public String getCityName() {
-        return zoneName.substring(0, zoneName.indexOf("("));
-    }
-
-    public String getProvinceName() {
-        return zoneName.substring(zoneName.indexOf("/") + 1);
-    }
-
-    public String getLocalNameOfCity() {
-        return zoneName.substring(zoneName.indexOf("(") + 1, zoneName.indexOf(")"));
-    }
-
-    public Zone getZone() {
-        return Zone.builder().city(this.getCityName())
-                .localNameOfCity(this.getLocalNameOfCity())
-                .province(this.getProvinceName()).build();
-    }
-
 }
@@ -0,0 +1,22 @@
+package com.studyolle.api.form;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ZonesForm {
+
+    @Size(max = 100)
+    private List<@NotBlank @Size(max = 100) String> addedZoneNames = new ArrayList<>();
+
+    @Size(max = 100)
+    private List<@NotBlank @Size(max = 100) String> removedZoneNames = new ArrayList<>();
+}
@@ -0,0 +1,27 @@
+package com.studyolle.api.validator;
+
+import com.studyolle.api.form.Profile;
+import com.studyolle.application.ProfileImageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+@Component
+@RequiredArgsConstructor
+public class ProfileValidator implements Validator {
+
+    private final ProfileImageService profileImageService;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return Profile.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        Profile profile = (Profile) target;
+        if (!profileImageService.isSupported(profile.getProfileImage()))
+            errors.rejectValue("profileImage", "wrong.value", "사용할 수 없는 프로필 이미지입니다.");
+    }
+}
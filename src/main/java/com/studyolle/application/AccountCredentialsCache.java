@@ -0,0 +1,60 @@
+package com.studyolle.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyolle.domain.account.Account;
+import com.studyolle.domain.account.AccountCredentials;
+import com.studyolle.global.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class AccountCredentialsCache {
+
+    private final Cache<String, AccountCredentials> cache;
+
+    public AccountCredentialsCache(AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.AuthenticationCacheProperties properties = appProperties.getAuthenticationCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "account-credentials");
+    }
+
+    public Optional<AccountCredentials> get(String emailOrNickname, Function<String, AccountCredentials> loader) {
+        return Optional.ofNullable(cache.get(emailOrNickname, loader));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public void evict(Account account) {
+        evict(account.getEmail(), account.getNickname());
+    }
+
+    public void evict(String... keys) {
+        for (String key : keys) {
+            if (key == null) {
+                continue;
+            }
+            cache.invalidate(key);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        cache.invalidate(key);
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.studyolle.application;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class AccountInterestIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Set<Long>> tagsByAccount = new HashMap<>();
+    private final Map<Long, Set<Long>> zonesByAccount = new HashMap<>();
+    private final Map<Long, Set<Long>> accountsByTag = new HashMap<>();
+    private final Map<Long, Set<Long>> accountsByZone = new HashMap<>();
+
+    public void index(Long accountId, Set<Long> tagIds, Set<Long> zoneIds) {
+        lock.writeLock().lock();
+        try {
+            removeAccount(accountId);
+            addAccount(accountId, tagIds, zoneIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long accountId) {
+        lock.writeLock().lock();
+        try {
+            removeAccount(accountId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Map<Long, Set<Long>> tagIds, Map<Long, Set<Long>> zoneIds) {
+        lock.writeLock().lock();
+        try {
+            tagsByAccount.clear();
+            zonesByAccount.clear();
+            accountsByTag.clear();
+            accountsByZone.clear();
+            tagIds.forEach((accountId, tags) -> addAccount(accountId, tags, zoneIds.getOrDefault(accountId, Set.of())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Long> findAccounts(Collection<Long> tagIds, Collection<Long> zoneIds) {
+        lock.readLock().lock();
+        try {
+            Set<Long> byTag = union(accountsByTag, tagIds);
+            if (byTag.isEmpty()) {
+                return Set.of();
+            }
+            Set<Long> byZone = union(accountsByZone, zoneIds);
+            Set<Long> smaller = byTag.size() <= byZone.size() ? byTag : byZone;
+            Set<Long> larger = smaller == byTag ? byZone : byTag;
+            smaller.retainAll(larger);
+            return smaller;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addAccount(Long accountId, Set<Long> tagIds, Set<Long> zoneIds) {
+        if (tagIds.isEmpty() || zoneIds.isEmpty()) {
+            return;
+        }
+        tagsByAccount.put(accountId, Set.copyOf(tagIds));
+        zonesByAccount.put(accountId, Set.copyOf(zoneIds));
+        tagIds.forEach(tagId -> accountsByTag.computeIfAbsent(tagId, key -> new HashSet<>()).add(accountId));
+        zoneIds.forEach(zoneId -> accountsByZone.computeIfAbsent(zoneId, key -> new HashSet<>()).add(accountId));
+    }
+
+    private void removeAccount(Long accountId) {
+        removePostings(accountsByTag, tagsByAccount.remove(accountId), accountId);
+        removePostings(accountsByZone, zonesByAccount.remove(accountId), accountId);
+    }
+
+    private void removePostings(Map<Long, Set<Long>> postings, Set<Long> keys, Long accountId) {
+        if (keys == null) {
+            return;
+        }
+        for (Long key : keys) {
+            Set<Long> accounts = postings.get(key);
+            if (accounts != null && accounts.remove(accountId) && accounts.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private Set<Long> union(Map<Long, Set<Long>> postings, Collection<Long> keys) {
+        Set<Long> accounts = new HashSet<>();
+        for (Long key : keys) {
+            accounts.addAll(postings.getOrDefault(key, Set.of()));
+        }
+        return accounts;
+    }
+}
@@ -0,0 +1,56 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.account.AccountInterestsChangedEvent;
+import com.studyolle.domain.account.AccountRepository;
+import com.studyolle.domain.tag.Tag;
+import com.studyolle.domain.zone.Zone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class AccountInterestIndexer {
+
+    private static final String ACCOUNT_TAGS_SQL = "select account_id, tags_id from account_tags";
+    private static final String ACCOUNT_ZONES_SQL = "select account_id, zones_id from account_zones";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountRepository accountRepository;
+    private final AccountInterestIndex accountInterestIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        accountInterestIndex.rebuild(load(ACCOUNT_TAGS_SQL), load(ACCOUNT_ZONES_SQL));
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onAccountInterestsChanged(AccountInterestsChangedEvent event) {
+        Long accountId = event.getAccountId();
+        accountRepository.findAccountWithTagsAndZonesById(accountId)
+                .ifPresentOrElse(account -> accountInterestIndex.index(accountId,
+                                account.getTags().stream().map(Tag::getId).collect(Collectors.toSet()),
+                                account.getZones().stream().map(Zone::getId).collect(Collectors.toSet())),
+                        () -> accountInterestIndex.remove(accountId));
+    }
+
+    private Map<Long, Set<Long>> load(String sql) {
+        Map<Long, Set<Long>> entries = new HashMap<>();
+        jdbcTemplate.query(sql, resultSet -> {
+            entries.computeIfAbsent(resultSet.getLong(1), key -> new HashSet<>()).add(resultSet.getLong(2));
+        });
+        return entries;
+    }
+}
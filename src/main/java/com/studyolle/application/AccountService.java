@@ -4,8 +4,10 @@ import com.studyolle.api.form.Notifications;
 import com.studyolle.api.form.Profile;
 import com.studyolle.api.form.SignUpForm;
 import com.studyolle.application.mail.EmailMessage;
-import com.studyolle.application.mail.EmailService;
+import com.studyolle.application.mail.EmailOutbox;
 import com.studyolle.domain.account.Account;
+import com.studyolle.domain.account.AccountCredentials;
+import com.studyolle.domain.account.AccountInterestsChangedEvent;
 import com.studyolle.domain.account.AccountRepository;
 import com.studyolle.domain.account.UserAccount;
 import com.studyolle.domain.tag.Tag;
@@ -14,34 +16,42 @@ import com.studyolle.global.config.AppProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import javax.validation.Valid;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
-public class AccountService implements UserDetailsService {
+public class AccountService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AccountRepository accountRepository;
-    private final EmailService emailService;
+    private final EmailOutbox emailOutbox;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
     private final TemplateEngine templateEngine;
     private final AppProperties appProperties;
+    private final ProfileImageService profileImageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccountCredentialsCache accountCredentialsCache;
 
     public Account processNewAccount(SignUpForm signUpForm) {
         Account newAccount = saveNewAccount(signUpForm);
@@ -53,6 +63,7 @@ public class AccountService implements UserDetailsService {
         signUpForm.setPassword(passwordEncoder.encode(signUpForm.getPassword()));
         Account account = modelMapper.map(signUpForm, Account.class);
         account.generateEmailCheckToken();
+        accountCredentialsCache.evict(account);
         return accountRepository.save(account);
     }
 
@@ -72,7 +83,7 @@ public class AccountService implements UserDetailsService {
                 .message(message)
                 .build();
 
-        emailService.sendEmail(emailMessage);
+        emailOutbox.enqueue(emailMessage);
     }
 
     public void login(Account account) {
@@ -83,34 +94,47 @@ public class AccountService implements UserDetailsService {
         SecurityContextHolder.getContext().setAuthentication(token);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Override
     public UserDetails loadUserByUsername(String emailOrNickname) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmail(emailOrNickname);
-        if (account == null) {
-            account = accountRepository.findByNickname(emailOrNickname);
-        }
+        return accountCredentialsCache.get(emailOrNickname, this::findCredentials)
+                .map(UserAccount::new)
+                .orElseThrow(() -> new UsernameNotFoundException(emailOrNickname));
+    }
 
-        if (account == null) {
-            throw new UsernameNotFoundException(emailOrNickname);
-        }
+    private AccountCredentials findCredentials(String emailOrNickname) {
+        List<AccountCredentials> candidates = accountRepository.findCredentials(emailOrNickname);
+        return candidates.stream()
+                .filter(credentials -> emailOrNickname.equals(credentials.getEmail()))
+                .findFirst()
+                .orElse(candidates.isEmpty() ? null : candidates.get(0));
+    }
 
-        return new UserAccount(account);
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserAccount userAccount = (UserAccount) user;
+        accountRepository.updatePassword(userAccount.getAccountId(), newPassword);
+        accountCredentialsCache.evict(userAccount.getEmail(), userAccount.getNickname());
+        return new UserAccount(new AccountCredentials(userAccount.getAccountId(), userAccount.getEmail(),
+                userAccount.getNickname(), newPassword, userAccount.isEmailVerified()));
     }
 
     public void completeSignUp(Account account) {
         account.completeSignUp();
+        accountCredentialsCache.evict(account);
         login(account);
     }
 
     public void updateProfile(Account account, Profile profile) {
         modelMapper.map(profile, account);
+        account.setProfileImage(profileImageService.toProfileImageUrl(profile.getProfileImage()));
         accountRepository.save(account);
     }
 
     public void updatePassword(Account account, String newPassword) {
         account.setPassword(passwordEncoder.encode(newPassword));
         accountRepository.save(account);
+        accountCredentialsCache.evict(account);
     }
 
     public void updateNotifications(Account account, Notifications notifications) {
@@ -119,8 +143,10 @@ public class AccountService implements UserDetailsService {
     }
 
     public void updateNickname(Account account, String newNickname) {
+        accountCredentialsCache.evict(account);
         account.setNickname(newNickname);
         accountRepository.save(account);
+        accountCredentialsCache.evict(account);
         login(account);
     }
 
@@ -139,12 +165,13 @@ public class AccountService implements UserDetailsService {
                 .subject("스터디올래, 로그인 링크")
                 .message(message)
                 .build();
-        emailService.sendEmail(emailMessage);
+        emailOutbox.enqueue(emailMessage);
     }
 
     public void addTag(Account account, Tag tag) {
         accountRepository.findById(account.getId())
                 .ifPresent(a -> a.getTags().add(tag));
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
     }
 
     public Set<Tag> getTags(Account account) {
@@ -154,6 +181,7 @@ public class AccountService implements UserDetailsService {
     public void removeTag(Account account, Tag tag) {
         accountRepository.findById(account.getId())
                 .ifPresent(a -> a.getTags().remove(tag));
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
     }
 
     public Set<Zone> getZones(Account account) {
@@ -163,11 +191,34 @@ public class AccountService implements UserDetailsService {
     public void addZone(Account account, Zone zone) {
         accountRepository.findById(account.getId())
                 .ifPresent(a -> a.getZones().add(zone));
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
     }
 
     public void removeZone(Account account, Zone zone) {
         accountRepository.findById(account.getId())
                 .ifPresent(a -> a.getZones().remove(zone));
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
+    }
+
+    public void updateTags(Account account, Collection<Tag> tags) {
+        Set<Long> tagIds = tags.stream().map(Tag::getId).collect(Collectors.toSet());
+        if (tagIds.isEmpty()) {
+            accountRepository.deleteAllTags(account.getId());
+        } else {
+            accountRepository.deleteTagsNotIn(account.getId(), tagIds);
+            accountRepository.insertMissingTags(account.getId(), tagIds);
+        }
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
+    }
+
+    public void updateZones(Account account, Collection<Zone> added, Collection<Zone> removed) {
+        if (!added.isEmpty()) {
+            accountRepository.insertMissingZones(account.getId(), added.stream().map(Zone::getId).collect(Collectors.toSet()));
+        }
+        if (!removed.isEmpty()) {
+            accountRepository.deleteZonesIn(account.getId(), removed.stream().map(Zone::getId).collect(Collectors.toSet()));
+        }
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
     }
 
     public Account getAccount(String nickname) {
@@ -0,0 +1,25 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.account.Account;
+import com.studyolle.domain.account.AccountRepository;
+import com.studyolle.domain.account.UserAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentAccountLoader {
+
+    private final AccountRepository accountRepository;
+
+    private Account account;
+
+    public Account load(UserAccount userAccount) {
+        if (account == null) {
+            account = accountRepository.findById(userAccount.getAccountId()).orElse(null);
+        }
+        return account;
+    }
+}
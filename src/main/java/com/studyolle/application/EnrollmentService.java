@@ -0,0 +1,219 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.account.AccountRepository;
+import com.studyolle.domain.enrollment.Enrollment;
+import com.studyolle.domain.enrollment.EnrollmentChangedEvent;
+import com.studyolle.domain.enrollment.EnrollmentRejectedException;
+import com.studyolle.domain.enrollment.EnrollmentRepository;
+import com.studyolle.domain.event.Event;
+import com.studyolle.domain.event.EventRepository;
+import com.studyolle.domain.event.EventType;
+import com.studyolle.global.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+@Service
+public class EnrollmentService {
+
+    private static final int ENROLL_ATTEMPTS = 3;
+
+    private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final AccountRepository accountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] locks;
+    private final long lockTimeoutMillis;
+    private final Timer lockWaitTimer;
+
+    public EnrollmentService(EventRepository eventRepository, EnrollmentRepository enrollmentRepository,
+                             AccountRepository accountRepository, ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager, AppProperties appProperties,
+                             MeterRegistry meterRegistry) {
+        AppProperties.EnrollmentProperties properties = appProperties.getEnrollment();
+        this.eventRepository = eventRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.accountRepository = accountRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.locks = new ReentrantLock[properties.getLockStripes()];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock(true);
+        }
+        this.lockTimeoutMillis = properties.getLockTimeout().toMillis();
+        this.lockWaitTimer = Timer.builder("enrollment.lock.wait").register(meterRegistry);
+    }
+
+    public Enrollment enroll(Long eventId, Long accountId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return tryEnroll(eventId, accountId);
+            } catch (DataIntegrityViolationException e) {
+                if (enrollmentRepository.existsByEventIdAndAccountId(eventId, accountId)) {
+                    throw new EnrollmentRejectedException("이미 참가 신청한 모임입니다.");
+                }
+                if (attempt == ENROLL_ATTEMPTS) {
+                    throw new EnrollmentRejectedException("참가 신청을 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+                }
+            }
+        }
+    }
+
+    private Enrollment tryEnroll(Long eventId, Long accountId) {
+        return withEventLock(eventId, changes -> {
+            Event event = findEvent(eventId);
+            if (!event.isNotClosed()) {
+                throw new EnrollmentRejectedException("참가 신청이 마감된 모임입니다.");
+            }
+            if (enrollmentRepository.existsByEventIdAndAccountId(eventId, accountId)) {
+                throw new EnrollmentRejectedException("이미 참가 신청한 모임입니다.");
+            }
+
+            boolean accepted = event.getEventType() == EventType.FCFS && eventRepository.allocateSeat(eventId) == 1;
+            eventRepository.addEnrollments(eventId, 1);
+            Enrollment enrollment = enrollmentRepository.save(Enrollment.of(
+                    eventRepository.getOne(eventId), accountRepository.getOne(accountId), accepted));
+            changes.put(accountId, accepted);
+            return enrollment;
+        });
+    }
+
+    public void disenroll(Long eventId, Long accountId) {
+        withEventLock(eventId, changes -> {
+            Event event = findEvent(eventId);
+            if (!event.isNotClosed()) {
+                throw new EnrollmentRejectedException("참가 신청이 마감된 모임입니다.");
+            }
+            Enrollment enrollment = enrollmentRepository.findByEventIdAndAccountId(eventId, accountId)
+                    .orElseThrow(() -> new EnrollmentRejectedException("참가 신청하지 않은 모임입니다."));
+            if (enrollment.isAttended()) {
+                throw new EnrollmentRejectedException("이미 참석한 모임은 신청을 취소할 수 없습니다.");
+            }
+
+            EventType eventType = event.getEventType();
+            enrollmentRepository.delete(enrollment);
+            eventRepository.addEnrollments(eventId, -1);
+            if (enrollment.isAccepted()) {
+                eventRepository.releaseSeat(eventId);
+                if (eventType == EventType.FCFS) {
+                    promoteNextWaiting(eventId, changes);
+                }
+            }
+            changes.put(accountId, false);
+            return null;
+        });
+    }
+
+    public int acceptEnrollments(Long eventId, Collection<Long> enrollmentIds) {
+        return withEventLock(eventId, changes -> {
+            checkIfConfirmative(findEvent(eventId));
+            List<Long> accountIds = enrollmentRepository.findAccountIds(eventId, enrollmentIds, false);
+            if (accountIds.isEmpty()) {
+                return 0;
+            }
+            if (eventRepository.allocateSeats(eventId, accountIds.size()) == 0) {
+                throw new EnrollmentRejectedException("남은 자리보다 많은 참가 신청을 수락할 수 없습니다.");
+            }
+            checkIfAllUpdated(enrollmentRepository.updateAccepted(eventId, enrollmentIds, true), accountIds);
+            accountIds.forEach(accountId -> changes.put(accountId, true));
+            return accountIds.size();
+        });
+    }
+
+    public int rejectEnrollments(Long eventId, Collection<Long> enrollmentIds) {
+        return withEventLock(eventId, changes -> {
+            checkIfConfirmative(findEvent(eventId));
+            List<Long> accountIds = enrollmentRepository.findAccountIds(eventId, enrollmentIds, true);
+            if (accountIds.isEmpty()) {
+                return 0;
+            }
+            int rejected = enrollmentRepository.updateAccepted(eventId, enrollmentIds, false);
+            checkIfAllUpdated(rejected, accountIds);
+            eventRepository.releaseSeats(eventId, rejected);
+            accountIds.forEach(accountId -> changes.put(accountId, false));
+            return accountIds.size();
+        });
+    }
+
+    public int checkIn(Long eventId, Collection<Long> enrollmentIds) {
+        return withEventLock(eventId, changes -> enrollmentRepository.updateAttended(eventId, enrollmentIds, true));
+    }
+
+    public int cancelCheckIn(Long eventId, Collection<Long> enrollmentIds) {
+        return withEventLock(eventId, changes -> enrollmentRepository.updateAttended(eventId, enrollmentIds, false));
+    }
+
+    public boolean checkInByToken(Long eventId, String token) {
+        String normalized = token.trim().toUpperCase();
+        return withEventLock(eventId, changes -> enrollmentRepository.checkInByToken(eventId, normalized) == 1);
+    }
+
+    private void checkIfConfirmative(Event event) {
+        if (event.getEventType() != EventType.CONFIRMATIVE) {
+            throw new EnrollmentRejectedException("관리자 확인 모임만 참가 신청을 수락하거나 거절할 수 있습니다.");
+        }
+        if (!event.isNotClosed()) {
+            throw new EnrollmentRejectedException("참가 신청이 마감된 모임입니다.");
+        }
+    }
+
+    private void checkIfAllUpdated(int updated, List<Long> accountIds) {
+        if (updated != accountIds.size()) {
+            throw new EnrollmentRejectedException("다른 요청과 겹쳐 처리하지 못했습니다. 다시 시도해 주세요.");
+        }
+    }
+
+    private void promoteNextWaiting(Long eventId, Map<Long, Boolean> changes) {
+        enrollmentRepository.findFirstByEventIdAndAcceptedFalseOrderByEnrolledAtAscIdAsc(eventId)
+                .filter(next -> eventRepository.allocateSeat(eventId) == 1)
+                .ifPresent(next -> {
+                    Enrollment promoted = enrollmentRepository.findById(next.getId()).orElseThrow();
+                    promoted.setAccepted(true);
+                    changes.put(promoted.getAccount().getId(), true);
+                });
+    }
+
+    private Event findEvent(Long eventId) {
+        return eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException(eventId + "에 해당하는 모임이 없습니다."));
+    }
+
+    private <T> T withEventLock(Long eventId, Function<Map<Long, Boolean>, T> action) {
+        ReentrantLock lock = locks[Math.floorMod(eventId.hashCode(), locks.length)];
+        long started = System.nanoTime();
+        try {
+            if (!lock.tryLock(lockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new EnrollmentRejectedException("참가 신청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            lockWaitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        Map<Long, Boolean> changes = new LinkedHashMap<>();
+        T result;
+        try {
+            result = transactionTemplate.execute(status -> action.apply(changes));
+        } finally {
+            lock.unlock();
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new EnrollmentChangedEvent(eventId, changes));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.account.UserAccount;
+import com.studyolle.domain.enrollment.Enrollment;
+import com.studyolle.domain.enrollment.EnrollmentRepository;
+import com.studyolle.domain.enrollment.EnrollmentSummary;
+import com.studyolle.domain.event.EventDetail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@RequestScope
+@RequiredArgsConstructor
+public class EnrollmentStatusService {
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    private final Map<Long, Optional<String>> checkInTokens = new HashMap<>();
+
+    public boolean isEnrollable(EventDetail event, UserAccount userAccount) {
+        return event.isNotClosed() && findEnrollment(event, userAccount).isEmpty();
+    }
+
+    public boolean isDisenrollable(EventDetail event, UserAccount userAccount) {
+        return event.isNotClosed() && findEnrollment(event, userAccount).isPresent();
+    }
+
+    public boolean isAttended(EventDetail event, UserAccount userAccount) {
+        return findEnrollment(event, userAccount).map(EnrollmentSummary::isAttended).orElse(false);
+    }
+
+    public String getCheckInToken(EventDetail event, UserAccount userAccount) {
+        return findEnrollment(event, userAccount)
+                .filter(EnrollmentSummary::isAccepted)
+                .flatMap(enrollment -> checkInTokens.computeIfAbsent(enrollment.getId(),
+                        id -> enrollmentRepository.findById(id).map(Enrollment::getCheckInToken)))
+                .orElse(null);
+    }
+
+    private Optional<EnrollmentSummary> findEnrollment(EventDetail event, UserAccount userAccount) {
+        return event.findEnrollment(userAccount.getAccountId());
+    }
+}
@@ -1,13 +1,18 @@
 package com.studyolle.application;
 
 import com.studyolle.domain.account.Account;
+import com.studyolle.domain.enrollment.EnrollmentRepository;
 import com.studyolle.domain.event.Event;
+import com.studyolle.domain.event.EventDetail;
 import com.studyolle.domain.event.EventRepository;
 import com.studyolle.domain.study.Study;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -15,18 +20,39 @@ import java.util.List;
 @Transactional
 public class EventService {
 
+    public static final int PAST_EVENTS_PAGE_SIZE = 10;
+
     private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
 
     public Event createEvent(Event event, Study study, Account account) {
         event.addData(study, account);
         return eventRepository.save(event);
     }
 
-    public Event findEvent(Long id) {
-        return eventRepository.findById(id).orElseThrow(RuntimeException::new);
+    @Transactional(readOnly = true)
+    public EventDetail getEventDetail(Long id, Long studyId) {
+        Event event = eventRepository.findEventWithCreatorById(id)
+                .filter(e -> e.getStudy().getId().equals(studyId))
+                .orElseThrow(() -> new IllegalArgumentException(id + "에 해당하는 모임이 없습니다."));
+        return EventDetail.of(event, enrollmentRepository.findSummariesByEventId(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Event> getUpcomingEvents(Long studyId) {
+        return eventRepository.findByStudyIdAndEndDateTimeGreaterThanEqualOrderByStartDateTime(studyId, LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Event> getPastEvents(Long studyId, int page) {
+        return eventRepository.findByStudyIdAndEndDateTimeLessThanOrderByEndDateTimeDesc(studyId, LocalDateTime.now(),
+                PageRequest.of(page, PAST_EVENTS_PAGE_SIZE));
     }
 
-    public List<Event> findByStudy(Study study) {
-        return eventRepository.findByStudyOrderByStartDateTime(study);
+    @Transactional(readOnly = true)
+    public void checkIfEventOfStudy(Long eventId, Long studyId) {
+        if (!eventRepository.existsByIdAndStudyId(eventId, studyId)) {
+            throw new IllegalArgumentException(eventId + "에 해당하는 모임이 없습니다.");
+        }
     }
 }
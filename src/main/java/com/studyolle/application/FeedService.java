@@ -0,0 +1,132 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.account.Account;
+import com.studyolle.domain.account.AccountInterestsChangedEvent;
+import com.studyolle.domain.account.AccountRepository;
+import com.studyolle.domain.feed.FeedEntry;
+import com.studyolle.domain.feed.FeedEntryRepository;
+import com.studyolle.domain.study.Study;
+import com.studyolle.domain.study.StudyChangedEvent;
+import com.studyolle.domain.study.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class FeedService {
+
+    private static final int FEED_SIZE = 100;
+    private static final int BACKFILL_CHUNK_SIZE = 100;
+    private static final String FEED_ENTRY_COLUMNS =
+            "(account_id, study_id, study_path, study_title, study_short_description, published_date_time)";
+    private static final String POSTGRESQL_INSERT_FEED_ENTRY_SQL = "insert into feed_entry " + FEED_ENTRY_COLUMNS +
+            " values (?, ?, ?, ?, ?, ?) on conflict (account_id, study_id) do nothing";
+    private static final String H2_INSERT_FEED_ENTRY_SQL = "merge into feed_entry " + FEED_ENTRY_COLUMNS +
+            " key (account_id, study_id) values (?, ?, ?, ?, ?, ?)";
+
+    private final FeedEntryRepository feedEntryRepository;
+    private final AccountRepository accountRepository;
+    private final StudyRepository studyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String insertFeedEntrySql;
+
+    @Transactional(readOnly = true)
+    public List<FeedEntry> getFeed(Account account) {
+        return feedEntryRepository.findFirst9ByAccountIdOrderByPublishedDateTimeDesc(account.getId());
+    }
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onStudyChanged(StudyChangedEvent event) {
+        feedEntryRepository.deleteByStudyId(event.getStudyId());
+        studyRepository.findStudyWithTagsAndZonesById(event.getStudyId())
+                .filter(study -> study.isPublished() && !study.isClosed() && study.isRecruiting())
+                .filter(study -> !study.getTags().isEmpty() && !study.getZones().isEmpty())
+                .ifPresent(study -> insertFeedEntries(
+                        accountRepository.findIdsByInterests(study.getTags(), study.getZones()).stream()
+                                .map(accountId -> toFeedEntryRow(accountId, study))
+                                .collect(Collectors.toList())));
+    }
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onAccountInterestsChanged(AccountInterestsChangedEvent event) {
+        rebuildFeed(event.getAccountId());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfill() {
+        if (feedEntryRepository.count() > 0) {
+            return;
+        }
+
+        Pageable pageable = PageRequest.of(0, BACKFILL_CHUNK_SIZE);
+        Slice<Long> accountIds;
+        do {
+            accountIds = accountRepository.findIds(pageable);
+            accountIds.forEach(accountId -> transactionTemplate.executeWithoutResult(status -> rebuildFeed(accountId)));
+            pageable = accountIds.nextPageable();
+        } while (accountIds.hasNext());
+    }
+
+    private void rebuildFeed(Long accountId) {
+        feedEntryRepository.deleteByAccountId(accountId);
+        accountRepository.findAccountWithTagsAndZonesById(accountId)
+                .filter(account -> !account.getTags().isEmpty() && !account.getZones().isEmpty())
+                .ifPresent(account -> insertFeedEntries(
+                        studyRepository.findRecruitingByInterests(account.getTags(), account.getZones(),
+                                PageRequest.of(0, FEED_SIZE)).stream()
+                                .map(study -> toFeedEntryRow(accountId, study))
+                                .collect(Collectors.toList())));
+    }
+
+    private void insertFeedEntries(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertFeedEntrySql(), rows);
+        }
+    }
+
+    private String insertFeedEntrySql() {
+        if (insertFeedEntrySql == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                insertFeedEntrySql = "PostgreSQL".equals(product) ? POSTGRESQL_INSERT_FEED_ENTRY_SQL
+                        : H2_INSERT_FEED_ENTRY_SQL;
+            } catch (MetaDataAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return insertFeedEntrySql;
+    }
+
+    private Object[] toFeedEntryRow(Long accountId, Study study) {
+        return new Object[]{accountId, study.getId(), study.getPath(), study.getTitle(), study.getShortDescription(),
+                study.getPublishedDateTime() == null ? null : Timestamp.valueOf(study.getPublishedDateTime())};
+    }
+}
@@ -0,0 +1,99 @@
+package com.studyolle.application;
+
+import com.studyolle.application.mail.EmailMessage;
+import com.studyolle.application.mail.EmailOutbox;
+import com.studyolle.domain.account.Account;
+import com.studyolle.domain.account.AccountRepository;
+import com.studyolle.domain.notification.Notification;
+import com.studyolle.domain.notification.NotificationRepository;
+import com.studyolle.domain.notification.PendingNotificationCount;
+import com.studyolle.global.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDigestService {
+
+    private static final String DIGEST_TEMPLATE = "mail/digest";
+
+    private final NotificationRepository notificationRepository;
+    private final AccountRepository accountRepository;
+    private final EmailOutbox emailOutbox;
+    private final TemplateEngine templateEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties appProperties;
+
+    @Scheduled(cron = "#{@appProperties.notificationDigest.cron}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendDigests() {
+        LocalDateTime until = LocalDateTime.now();
+        int chunkSize = appProperties.getNotificationDigest().getChunkSize();
+        long after = 0;
+        int sent = 0;
+        List<Long> accountIds;
+        do {
+            accountIds = notificationRepository.findDigestAccountIds(after, until, PageRequest.of(0, chunkSize));
+            if (accountIds.isEmpty()) {
+                break;
+            }
+            List<Long> chunk = accountIds;
+            sent += transactionTemplate.execute(status -> sendDigests(chunk, until));
+            after = accountIds.get(accountIds.size() - 1);
+        } while (accountIds.size() == chunkSize);
+        log.info("queued {} notification digests", sent);
+    }
+
+    private int sendDigests(List<Long> accountIds, LocalDateTime until) {
+        Map<Long, Account> accounts = accountRepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        int maxItems = appProperties.getNotificationDigest().getMaxItems();
+        Map<Long, List<Notification>> notifications = notificationRepository
+                .findDigestNotifications(accountIds, until, maxItems).stream()
+                .collect(Collectors.groupingBy(Notification::getAccountId));
+        Map<Long, Long> counts = notificationRepository.countDigestNotifications(accountIds, until).stream()
+                .collect(Collectors.toMap(PendingNotificationCount::getAccountId, PendingNotificationCount::getCount));
+
+        Context context = new Context();
+        context.setVariable("host", appProperties.getHost());
+        int sent = 0;
+        for (Long accountId : accountIds) {
+            Account account = accounts.get(accountId);
+            List<Notification> pending = notifications.get(accountId);
+            if (account == null || pending == null) {
+                continue;
+            }
+            long count = counts.getOrDefault(accountId, (long) pending.size());
+            emailOutbox.enqueue(EmailMessage.builder()
+                    .to(account.getEmail())
+                    .subject("스터디올래, 새 알림 " + count + "건")
+                    .message(render(context, account, pending, count))
+                    .build());
+            sent++;
+        }
+        notificationRepository.markDigested(accountIds, until);
+        return sent;
+    }
+
+    private String render(Context context, Account account, List<Notification> pending, long count) {
+        context.setVariable("nickname", account.getNickname());
+        context.setVariable("notifications", pending);
+        context.setVariable("remaining", Math.max(count - pending.size(), 0));
+        return templateEngine.process(DIGEST_TEMPLATE, context);
+    }
+}
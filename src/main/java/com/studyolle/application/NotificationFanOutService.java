@@ -0,0 +1,124 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.notification.NotificationType;
+import com.studyolle.domain.notification.NotificationsCreatedEvent;
+import com.studyolle.domain.study.Study;
+import com.studyolle.domain.study.StudyPublishedEvent;
+import com.studyolle.domain.study.StudyRepository;
+import com.studyolle.domain.tag.Tag;
+import com.studyolle.domain.zone.Zone;
+import com.studyolle.global.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class NotificationFanOutService {
+
+    private static final String RECIPIENTS_SQL = "select id, study_created_by_web, study_created_by_email from account " +
+            "where id in (:ids) and (study_created_by_web = true or study_created_by_email = true)";
+    private static final String INSERT_NOTIFICATION_SQL = "insert into notification " +
+            "(account_id, title, link, message, checked, email_pending, notification_type, created_date_time) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final StudyRepository studyRepository;
+    private final AccountInterestIndex accountInterestIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    private final Timer fanOutTimer;
+    private final DistributionSummary recipientsSummary;
+    private final Counter notificationsCounter;
+
+    public NotificationFanOutService(StudyRepository studyRepository, AccountInterestIndex accountInterestIndex,
+                                     JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     UnreadNotificationCounter unreadNotificationCounter,
+                                     ApplicationEventPublisher eventPublisher, AppProperties appProperties,
+                                     MeterRegistry meterRegistry) {
+        this.studyRepository = studyRepository;
+        this.accountInterestIndex = accountInterestIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = appProperties.getNotificationFanOut().getBatchSize();
+        this.fanOutTimer = Timer.builder("notification.fanout.duration").register(meterRegistry);
+        this.recipientsSummary = DistributionSummary.builder("notification.fanout.recipients").register(meterRegistry);
+        this.notificationsCounter = meterRegistry.counter("notification.fanout.notifications");
+    }
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onStudyPublished(StudyPublishedEvent event) {
+        Study study = transactionTemplate.execute(status ->
+                studyRepository.findStudyWithTagsAndZonesById(event.getStudyId()).orElse(null));
+        if (study == null || !study.isPublished()) {
+            return;
+        }
+
+        fanOutTimer.record(() -> {
+            Set<Long> tagIds = study.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+            Set<Long> zoneIds = study.getZones().stream().map(Zone::getId).collect(Collectors.toSet());
+            List<Long> accountIds = new ArrayList<>(accountInterestIndex.findAccounts(tagIds, zoneIds));
+            recipientsSummary.record(accountIds.size());
+
+            long started = System.nanoTime();
+            int inserted = 0;
+            for (int from = 0; from < accountIds.size(); from += batchSize) {
+                List<Long> chunk = accountIds.subList(from, Math.min(from + batchSize, accountIds.size()));
+                inserted += transactionTemplate.execute(status -> insertNotifications(study, chunk));
+            }
+            notificationsCounter.increment(inserted);
+            log.info("fanned out study {} to {} of {} matching accounts in {} ms", study.getId(), inserted,
+                    accountIds.size(), (System.nanoTime() - started) / 1_000_000);
+        });
+    }
+
+    private int insertNotifications(Study study, List<Long> accountIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String link = "/study/" + study.getEncodedPath();
+        List<Object[]> rows = namedParameterJdbcTemplate.query(RECIPIENTS_SQL, Map.of("ids", accountIds),
+                (resultSet, rowNum) -> new Object[]{
+                        resultSet.getLong(1), study.getTitle(), link, study.getShortDescription(),
+                        !resultSet.getBoolean(2), resultSet.getBoolean(3),
+                        NotificationType.STUDY_CREATED.name(), now});
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, rows);
+        List<Long> unreadAccountIds = rows.stream()
+                .filter(row -> !(Boolean) row[4])
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toList());
+        unreadNotificationCounter.increment(unreadAccountIds);
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(unreadAccountIds));
+        return rows.size();
+    }
+}
@@ -0,0 +1,61 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.notification.Notification;
+import com.studyolle.domain.notification.NotificationRepository;
+import com.studyolle.global.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class NotificationService {
+
+    public static final int PAGE_SIZE = 20;
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final AppProperties appProperties;
+
+    @Transactional(readOnly = true)
+    public Slice<Notification> getNotifications(Long accountId, boolean checked, int page) {
+        return notificationRepository.findByAccountIdAndCheckedOrderByCreatedDateTimeDesc(accountId, checked,
+                PageRequest.of(page, PAGE_SIZE));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long countUnread(Long accountId) {
+        return unreadNotificationCounter.get(accountId,
+                id -> notificationRepository.countByAccountIdAndChecked(id, false));
+    }
+
+    public void markRead(Long accountId, Collection<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        int checked = notificationRepository.markChecked(accountId, notificationIds);
+        unreadNotificationCounter.decrement(accountId, checked);
+    }
+
+    public void markAllRead(Long accountId) {
+        notificationRepository.markAllChecked(accountId);
+        unreadNotificationCounter.reset(accountId);
+    }
+
+    @Scheduled(cron = "#{@appProperties.notificationInbox.pruneCron}")
+    public void prune() {
+        int deleted = notificationRepository.deleteCheckedBefore(
+                LocalDateTime.now().minus(appProperties.getNotificationInbox().getReadRetention()));
+        log.info("pruned {} read notifications", deleted);
+    }
+}
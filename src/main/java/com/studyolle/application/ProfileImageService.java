@@ -0,0 +1,116 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.account.ProfileImage;
+import com.studyolle.domain.account.ProfileImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ProfileImageService {
+
+    public static final String PROFILE_IMAGE_URL = "/images/profile/";
+
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+
+    private final ProfileImageRepository profileImageRepository;
+
+    public String toProfileImageUrl(String profileImage) {
+        if (!StringUtils.hasText(profileImage)) {
+            return null;
+        }
+
+        if (profileImage.startsWith(PROFILE_IMAGE_URL)) {
+            return profileImage;
+        }
+
+        if (!profileImage.startsWith(DATA_URL_PREFIX)) {
+            throw new IllegalArgumentException("지원하지 않는 프로필 이미지 형식입니다.");
+        }
+
+        return PROFILE_IMAGE_URL + store(profileImage);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isSupported(String profileImage) {
+        if (!StringUtils.hasText(profileImage) || profileImage.startsWith(PROFILE_IMAGE_URL)) {
+            return true;
+        }
+
+        if (!profileImage.startsWith(DATA_URL_PREFIX)) {
+            return false;
+        }
+
+        try {
+            decode(profileImage, contentType(profileImage));
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ProfileImage> findProfileImage(String hash) {
+        return profileImageRepository.findById(hash);
+    }
+
+    private String store(String dataUrl) {
+        String contentType = contentType(dataUrl);
+        byte[] data = decode(dataUrl, contentType);
+        String hash = sha256(data);
+        if (!profileImageRepository.existsById(hash)) {
+            profileImageRepository.save(ProfileImage.builder()
+                    .hash(hash)
+                    .contentType(contentType)
+                    .data(data)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return hash;
+    }
+
+    private String contentType(String dataUrl) {
+        int markerIndex = dataUrl.indexOf(BASE64_MARKER);
+        if (markerIndex < 0) {
+            throw new IllegalArgumentException("지원하지 않는 프로필 이미지 형식입니다.");
+        }
+
+        String contentType = dataUrl.substring(DATA_URL_PREFIX.length(), markerIndex);
+        if (!ALLOWED_CONTENT_TYPES.contains(contentType)) {
+            throw new IllegalArgumentException(contentType + "은(는) 프로필 이미지로 사용할 수 없습니다.");
+        }
+        return contentType;
+    }
+
+    private byte[] decode(String dataUrl, String contentType) {
+        int offset = DATA_URL_PREFIX.length() + contentType.length() + BASE64_MARKER.length();
+        return Base64.getDecoder().decode(dataUrl.substring(offset).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.referencedata.ReferenceDataImport;
+import com.studyolle.domain.referencedata.ReferenceDataImportRepository;
+import com.studyolle.global.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataImporter {
+
+    private final List<ReferenceDataSet> referenceDataSets;
+    private final ReferenceDataImportRepository referenceDataImportRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties appProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (appProperties.getReferenceData().isAsync()) {
+            new SimpleAsyncTaskExecutor("ReferenceData-").execute(this::importAll);
+        } else {
+            importAll();
+        }
+    }
+
+    public void importAll() {
+        for (ReferenceDataSet dataSet : referenceDataSets) {
+            try {
+                importDataSet(dataSet);
+            } catch (RuntimeException e) {
+                log.error("reference data {} import failed", dataSet.getName(), e);
+            }
+            dataSet.onLoaded();
+        }
+    }
+
+    private void importDataSet(ReferenceDataSet dataSet) {
+        ClassPathResource resource = new ClassPathResource(dataSet.getResource());
+        String checksum = checksum(resource);
+        boolean unchanged = referenceDataImportRepository.findById(dataSet.getName())
+                .map(imported -> checksum.equals(imported.getChecksum()))
+                .orElse(false);
+        if (unchanged) {
+            return;
+        }
+
+        int batchSize = appProperties.getReferenceData().getBatchSize();
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<List<String>> existingKeys = dataSet.findExistingKeys();
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            int inserted = 0;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    String[] row = Arrays.stream(line.split(",")).map(String::trim).toArray(String[]::new);
+                    if (!existingKeys.add(dataSet.getKey(row))) {
+                        continue;
+                    }
+                    batch.add(row);
+                    if (batch.size() == batchSize) {
+                        inserted += flush(dataSet, batch);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            inserted += flush(dataSet, batch);
+
+            referenceDataImportRepository.save(ReferenceDataImport.builder()
+                    .name(dataSet.getName())
+                    .checksum(checksum)
+                    .importedAt(LocalDateTime.now())
+                    .build());
+            log.info("reference data {} imported: {} new rows", dataSet.getName(), inserted);
+        });
+    }
+
+    private int flush(ReferenceDataSet dataSet, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(dataSet.getInsertSql(), batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private String checksum(ClassPathResource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return DigestUtils.md5DigestAsHex(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.studyolle.application;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ReferenceDataSet {
+
+    String getName();
+
+    String getResource();
+
+    String getInsertSql();
+
+    Set<List<String>> findExistingKeys();
+
+    List<String> getKey(String[] row);
+
+    void onLoaded();
+}
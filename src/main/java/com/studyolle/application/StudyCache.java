@@ -0,0 +1,46 @@
+package com.studyolle.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyolle.domain.study.StudySnapshot;
+import com.studyolle.global.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+@Component
+public class StudyCache {
+
+    private final Cache<String, StudySnapshot> cache;
+
+    public StudyCache(AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.StudyCacheProperties properties = appProperties.getStudyCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight())
+                .weigher((String path, StudySnapshot study) -> study.getWeight())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "study");
+    }
+
+    public StudySnapshot get(String path, Function<String, StudySnapshot> loader) {
+        return cache.get(path, loader);
+    }
+
+    public void evict(String path) {
+        cache.invalidate(path);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(path);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.account.UserAccount;
+import com.studyolle.domain.study.StudyRepository;
+import com.studyolle.domain.study.StudySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequestScope
+@RequiredArgsConstructor
+public class StudyMembershipService {
+
+    private final StudyRepository studyRepository;
+
+    private final Map<List<Long>, Boolean> managers = new HashMap<>();
+    private final Map<List<Long>, Boolean> members = new HashMap<>();
+
+    public boolean isManager(Long studyId, Long accountId) {
+        return managers.computeIfAbsent(List.of(studyId, accountId),
+                key -> studyRepository.existsManager(studyId, accountId));
+    }
+
+    public boolean isMember(Long studyId, Long accountId) {
+        return members.computeIfAbsent(List.of(studyId, accountId),
+                key -> studyRepository.existsMember(studyId, accountId));
+    }
+
+    public boolean isManager(StudySnapshot study, UserAccount userAccount) {
+        return isManager(study.getId(), userAccount.getAccountId());
+    }
+
+    public boolean isMember(StudySnapshot study, UserAccount userAccount) {
+        return isMember(study.getId(), userAccount.getAccountId());
+    }
+
+    public boolean isJoinable(StudySnapshot study, UserAccount userAccount) {
+        return study.isPublished() && study.isRecruiting()
+                && !isMember(study, userAccount) && !isManager(study, userAccount);
+    }
+}
@@ -0,0 +1,58 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.study.Study;
+import com.studyolle.domain.tag.Tag;
+import com.studyolle.domain.zone.Zone;
+import lombok.Getter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+public class StudySearchDocument {
+
+    private final Long id;
+
+    private final String path;
+
+    private final String title;
+
+    private final String shortDescription;
+
+    private final boolean recruiting;
+
+    private final boolean closed;
+
+    private final LocalDateTime publishedDateTime;
+
+    private final Set<String> tags;
+
+    private final Set<Zone> zones;
+
+    private StudySearchDocument(Study study) {
+        this.id = study.getId();
+        this.path = study.getPath();
+        this.title = study.getTitle();
+        this.shortDescription = study.getShortDescription();
+        this.recruiting = study.isRecruiting();
+        this.closed = study.isClosed();
+        this.publishedDateTime = study.getPublishedDateTime();
+        this.tags = study.getTags().stream().map(Tag::getTitle).collect(Collectors.toUnmodifiableSet());
+        this.zones = Set.copyOf(study.getZones());
+    }
+
+    public static StudySearchDocument of(Study study) {
+        return new StudySearchDocument(study);
+    }
+
+    public String getEncodedPath() {
+        return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
+    }
+
+    public boolean hasZone(Long zoneId) {
+        return zones.stream().anyMatch(zone -> zone.getId().equals(zoneId));
+    }
+}
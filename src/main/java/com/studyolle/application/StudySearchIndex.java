@@ -0,0 +1,173 @@
+package com.studyolle.application;
+
+import com.studyolle.api.form.StudySearchForm;
+import com.studyolle.domain.study.Study;
+import com.studyolle.domain.tag.Tag;
+import com.studyolle.domain.zone.Zone;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class StudySearchIndex {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int TITLE_WEIGHT = 5;
+    private static final int TAG_WEIGHT = 4;
+    private static final int ZONE_WEIGHT = 3;
+    private static final int SHORT_DESCRIPTION_WEIGHT = 2;
+    private static final int FULL_DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, StudySearchDocument> documents = new HashMap<>();
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+
+    public void index(Study study) {
+        if (!study.isPublished()) {
+            remove(study.getId());
+            return;
+        }
+
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, study.getTitle(), TITLE_WEIGHT);
+        addTerms(terms, study.getShortDescription(), SHORT_DESCRIPTION_WEIGHT);
+        if (study.getFullDescription() != null) {
+            addTerms(terms, HTML_TAG.matcher(study.getFullDescription()).replaceAll(" "), FULL_DESCRIPTION_WEIGHT);
+        }
+        for (Tag tag : study.getTags()) {
+            addTerms(terms, tag.getTitle(), TAG_WEIGHT);
+        }
+        for (Zone zone : study.getZones()) {
+            addTerms(terms, zone.getCity() + " " + zone.getLocalNameOfCity() + " " + zone.getProvince(), ZONE_WEIGHT);
+        }
+        StudySearchDocument document = StudySearchDocument.of(study);
+
+        lock.writeLock().lock();
+        try {
+            removeTerms(study.getId());
+            documents.put(study.getId(), document);
+            documentTerms.put(study.getId(), terms.keySet());
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(study.getId(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            removeTerms(studyId);
+            documents.remove(studyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<Study> studies) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            documentTerms.clear();
+            postings.clear();
+            studies.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Page<StudySearchDocument> search(StudySearchForm form, Pageable pageable) {
+        List<String> queryTerms = tokenize(form.getKeyword()).distinct().collect(Collectors.toList());
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = queryTerms.isEmpty() ? allDocuments() : score(queryTerms);
+            Comparator<StudySearchDocument> order = Comparator
+                    .comparing((StudySearchDocument document) -> scores.get(document.getId()), Comparator.reverseOrder())
+                    .thenComparing(StudySearchDocument::getPublishedDateTime,
+                            Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+            List<StudySearchDocument> matched = scores.keySet().stream()
+                    .map(documents::get)
+                    .filter(form::matches)
+                    .sorted(order)
+                    .collect(Collectors.toList());
+
+            int from = (int) Math.min(pageable.getOffset(), matched.size());
+            int to = Math.min(from + pageable.getPageSize(), matched.size());
+            return new PageImpl<>(new ArrayList<>(matched.subList(from, to)), pageable, matched.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> allDocuments() {
+        Map<Long, Double> scores = new HashMap<>();
+        documents.keySet().forEach(id -> scores.put(id, 0.0));
+        return scores;
+    }
+
+    private Map<Long, Double> score(List<String> queryTerms) {
+        Map<Long, Double> scores = null;
+        for (String queryTerm : queryTerms) {
+            Map<Long, Double> termScores = score(queryTerm);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    private Map<Long, Double> score(String queryTerm) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> posting
+                : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, true).entrySet()) {
+            double factor = posting.getKey().equals(queryTerm) ? 1.0 : PREFIX_MATCH_FACTOR;
+            double idf = Math.log(1.0 + (double) documents.size() / posting.getValue().size());
+            posting.getValue().forEach((id, weight) -> scores.merge(id, weight * idf * factor, Double::sum));
+        }
+        return scores;
+    }
+
+    private void removeTerms(Long studyId) {
+        Set<String> terms = documentTerms.remove(studyId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(studyId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private void addTerms(Map<String, Integer> terms, String text, int weight) {
+        tokenize(text).forEach(term -> terms.merge(term, weight, Integer::sum));
+    }
+
+    private Stream<String> tokenize(String text) {
+        if (text == null) {
+            return Stream.empty();
+        }
+        return TOKEN_DELIMITER.splitAsStream(text.toLowerCase(Locale.ROOT)).filter(token -> !token.isEmpty());
+    }
+}
@@ -0,0 +1,32 @@
+package com.studyolle.application;
+
+import com.studyolle.domain.study.StudyChangedEvent;
+import com.studyolle.domain.study.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndexer {
+
+    private final StudyRepository studyRepository;
+    private final StudySearchIndex studySearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        studySearchIndex.rebuild(studyRepository.findDistinctStudyWithTagsAndZonesByPublished(true));
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStudyChanged(StudyChangedEvent event) {
+        studyRepository.findStudyWithTagsAndZonesById(event.getStudyId())
+                .ifPresentOrElse(studySearchIndex::index, () -> studySearchIndex.remove(event.getStudyId()));
+    }
+}
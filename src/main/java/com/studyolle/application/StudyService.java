@@ -3,15 +3,25 @@ package com.studyolle.application;
 import com.studyolle.api.form.StudyDescriptionForm;
 import com.studyolle.domain.account.Account;
 import com.studyolle.domain.study.Study;
+import com.studyolle.domain.study.StudyChangedEvent;
+import com.studyolle.domain.study.StudyMemberSlice;
+import com.studyolle.domain.study.StudyPublishedEvent;
 import com.studyolle.domain.study.StudyRepository;
+import com.studyolle.domain.study.StudySnapshot;
 import com.studyolle.domain.tag.Tag;
 import com.studyolle.domain.zone.Zone;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import static com.studyolle.api.form.StudyForm.VALID_PATH_PATTERN;
 
 @Service
@@ -19,8 +29,13 @@ import static com.studyolle.api.form.StudyForm.VALID_PATH_PATTERN;
 @RequiredArgsConstructor
 public class StudyService {
 
+    public static final int MEMBERS_PAGE_SIZE = 20;
+
     private final StudyRepository studyRepository;
     private final ModelMapper modelMapper;
+    private final StudyCache studyCache;
+    private final StudyMembershipService studyMembershipService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Study createNewStudy(Study study, Account account) {
         Study newStudy = studyRepository.save(study);
@@ -29,63 +44,131 @@ public class StudyService {
     }
 
     public Study getStudyToUpdate(Account account, String path) {
-        Study study = getStudy(path);
+        Study study = studyRepository.findStudyOnlyByPath(path);
+        checkIfExistingStudy(path, study);
         checkIfManager(account, study);
         return study;
     }
 
-    public Study getStudy(String path) {
-        Study study = studyRepository.findByPath(path);
+    @Transactional(readOnly = true)
+    public StudySnapshot getStudy(String path) {
+        StudySnapshot study = studyCache.get(path, this::loadStudySnapshot);
         checkIfExistingStudy(path, study);
         return study;
     }
 
+    @Transactional(readOnly = true)
+    public StudySnapshot getStudyToManage(Account account, String path) {
+        StudySnapshot study = getStudy(path);
+        checkIfManager(account, study.getId());
+        return study;
+    }
+
+    @Transactional(readOnly = true)
+    public StudyMemberSlice getManagers(Long studyId, String after) {
+        return StudyMemberSlice.of(studyRepository.findManagers(studyId, after,
+                PageRequest.of(0, MEMBERS_PAGE_SIZE + 1)), MEMBERS_PAGE_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public StudyMemberSlice getMembers(Long studyId, String after) {
+        return StudyMemberSlice.of(studyRepository.findMembers(studyId, after,
+                PageRequest.of(0, MEMBERS_PAGE_SIZE + 1)), MEMBERS_PAGE_SIZE);
+    }
+
+    private StudySnapshot loadStudySnapshot(String path) {
+        Study study = studyRepository.findStudyWithTagsAndZonesByPath(path);
+        return study == null ? null : StudySnapshot.of(study, studyRepository.countMembers(study.getId()));
+    }
+
     public void updateStudyDescription(Study study, StudyDescriptionForm studyDescriptionForm) {
         modelMapper.map(studyDescriptionForm, study);
+        studyChanged(study);
     }
 
     public void updateStudyImage(Study study, String image) {
         study.changeImage(image);
+        studyChanged(study);
     }
 
     public void enableStudyBanner(Study study) {
         study.enableStudyImage();
+        studyChanged(study);
     }
 
     public void disableStudyBanner(Study study) {
         study.disableStudyImage();
+        studyChanged(study);
     }
 
     public void addZone(Study study, Zone zone) {
         study.getZones().add(zone);
+        studyChanged(study);
     }
 
     public void removeZone(Study study, Zone zone) {
         study.getZones().remove(zone);
+        studyChanged(study);
     }
 
     public void addTag(Study study, Tag tag) {
         study.getTags().add(tag);
+        studyChanged(study);
     }
 
     public void removeTag(Study study, Tag tag) {
         study.getTags().remove(tag);
+        studyChanged(study);
     }
 
     public Study getStudyToUpdateTag(Account account, String path) {
         Study study = studyRepository.findStudyWithTagsByPath(path);
-        checkIfManager(account, study);
         checkIfExistingStudy(path, study);
+        checkIfManager(account, study);
         return study;
     }
 
+    public void updateTags(StudySnapshot study, Collection<Tag> tags) {
+        Set<Long> tagIds = tags.stream().map(Tag::getId).collect(Collectors.toSet());
+        if (tagIds.isEmpty()) {
+            studyRepository.deleteAllTags(study.getId());
+        } else {
+            studyRepository.deleteTagsNotIn(study.getId(), tagIds);
+            studyRepository.insertMissingTags(study.getId(), tagIds);
+        }
+        studyChanged(study.getId(), study.getPath());
+    }
+
+    public void updateZones(StudySnapshot study, Collection<Zone> added, Collection<Zone> removed) {
+        if (!added.isEmpty()) {
+            studyRepository.insertMissingZones(study.getId(), added.stream().map(Zone::getId).collect(Collectors.toSet()));
+        }
+        if (!removed.isEmpty()) {
+            studyRepository.deleteZonesIn(study.getId(), removed.stream().map(Zone::getId).collect(Collectors.toSet()));
+        }
+        studyChanged(study.getId(), study.getPath());
+    }
+
+    private void studyChanged(Study study) {
+        studyChanged(study.getId(), study.getPath());
+    }
+
+    private void studyChanged(Long studyId, String path) {
+        studyCache.evict(path);
+        eventPublisher.publishEvent(new StudyChangedEvent(studyId));
+    }
+
     private void checkIfManager(Account account, Study study) {
-        if (!account.isManagerOf(study)) {
+        checkIfManager(account, study.getId());
+    }
+
+    private void checkIfManager(Account account, Long studyId) {
+        if (!studyMembershipService.isManager(studyId, account.getId())) {
             throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
         }
     }
 
-    private void checkIfExistingStudy(String path, Study study) {
+    private void checkIfExistingStudy(String path, Object study) {
         if (study == null) {
             throw new IllegalArgumentException(path + "에 해당하는 스터디가 없습니다.");
         }
@@ -93,32 +176,40 @@ public class StudyService {
 
     public Study getStudyToUpdateZone(Account account, String path) {
         Study study = studyRepository.findStudyWithZonesByPath(path);
-        checkIfManager(account, study);
         checkIfExistingStudy(path, study);
+        checkIfManager(account, study);
         return study;
     }
 
     public Study getStudyToUpdateStatus(Account account, String path) {
-        Study study = studyRepository.findStudyWithManagersByPath(path);
+        Study study = studyRepository.findStudyOnlyByPath(path);
         checkIfExistingStudy(path, study);
         checkIfManager(account, study);
         return study;
     }
 
     public void publish(Study study) {
+        boolean wasPublished = study.isPublished();
         study.publish();
+        studyChanged(study);
+        if (!wasPublished && study.isPublished()) {
+            eventPublisher.publishEvent(new StudyPublishedEvent(study.getId()));
+        }
     }
 
     public void close(Study study) {
         study.close();
+        studyChanged(study);
     }
 
     public void startRecruit(Study study) {
         study.startRecruit();
+        studyChanged(study);
     }
 
     public void stopRecruit(Study study) {
         study.stopRecruit();
+        studyChanged(study);
     }
 
     public boolean isValidPath(String newPath) {
@@ -130,7 +221,9 @@ public class StudyService {
     }
 
     public void updateStudyPath(Study study, String newPath) {
+        studyCache.evict(study.getPath());
         study.setPath(newPath);
+        studyChanged(study);
     }
 
     public boolean isValidTitle(String newTitle) {
@@ -139,14 +232,17 @@ public class StudyService {
 
     public void updateStudyTitle(Study study, String newTitle) {
         study.setTitle(newTitle);
+        studyChanged(study);
     }
 
 
     public void removeMember(Study study, Account account) {
         study.removeMember(account);
+        studyCache.evict(study.getPath());
     }
 
     public void addMember(Study study, Account account) {
         study.addMember(account);
+        studyCache.evict(study.getPath());
     }
 }
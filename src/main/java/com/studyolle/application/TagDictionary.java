@@ -0,0 +1,118 @@
+package com.studyolle.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.domain.tag.Tag;
+import com.studyolle.domain.tag.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+    public static final String TAG_WHITELIST_URL = "/tags/whitelist";
+
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void load() {
+        List<String> titles = new ArrayList<>();
+        tagRepository.findAll().stream().map(Tag::getTitle).forEach(titles::add);
+        replace(titles);
+    }
+
+    public synchronized void add(String title) {
+        List<String> updated = new ArrayList<>(Arrays.asList(current().titles));
+        if (updated.contains(title)) {
+            return;
+        }
+        updated.add(title);
+        replace(updated);
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        String[] titles = current().titles;
+        int index = Arrays.binarySearch(titles, prefix, String.CASE_INSENSITIVE_ORDER);
+        int from = index >= 0 ? index : -index - 1;
+        while (from > 0 && startsWithIgnoreCase(titles[from - 1], prefix)) {
+            from--;
+        }
+
+        List<String> suggestions = new ArrayList<>(limit);
+        for (int i = from; i < titles.length && suggestions.size() < limit; i++) {
+            if (!startsWithIgnoreCase(titles[i], prefix)) {
+                break;
+            }
+            suggestions.add(titles[i]);
+        }
+        return suggestions;
+    }
+
+    public String getVersion() {
+        return current().version;
+    }
+
+    public String getWhitelistUrl() {
+        return TAG_WHITELIST_URL + "?v=" + getVersion();
+    }
+
+    public byte[] getWhitelist() {
+        return current().whitelist;
+    }
+
+    private Snapshot current() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (this.snapshot == null) {
+                    load();
+                }
+                current = this.snapshot;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void replace(Collection<String> titles) {
+        String[] sorted = titles.toArray(String[]::new);
+        Arrays.sort(sorted, String.CASE_INSENSITIVE_ORDER);
+        try {
+            this.snapshot = new Snapshot(sorted, objectMapper.writeValueAsBytes(sorted));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean startsWithIgnoreCase(String title, String prefix) {
+        return title.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static class Snapshot {
+
+        private final String[] titles;
+
+        private final byte[] whitelist;
+
+        private final String version;
+
+        private Snapshot(String[] titles, byte[] whitelist) {
+            this.titles = titles;
+            this.whitelist = whitelist;
+            this.version = DigestUtils.md5DigestAsHex(whitelist);
+        }
+    }
+}
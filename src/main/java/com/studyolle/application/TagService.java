@@ -3,21 +3,88 @@ package com.studyolle.application;
 import com.studyolle.domain.tag.Tag;
 import com.studyolle.domain.tag.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.DatabaseMetaData;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class TagService {
+
+    private static final String POSTGRESQL_UPSERT_SQL = "insert into tag (title) values (?) on conflict (title) do nothing";
+    private static final String H2_UPSERT_SQL = "merge into tag (title) key (title) values (?)";
+
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Tag> tags = new ConcurrentHashMap<>();
+    private volatile String upsertSql;
 
     public Tag findOrCreateNew(String tagTitle) {
-        Tag tag = tagRepository.findByTitle(tagTitle);
+        return findTag(tagTitle).orElseGet(() -> intern(tagTitle));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Tag> findTag(String tagTitle) {
+        Tag tag = tags.get(tagTitle);
+        if (tag != null) {
+            return Optional.of(tag);
+        }
+
+        tag = tagRepository.findByTitle(tagTitle);
         if (tag == null) {
-            tagRepository.save(Tag.builder().title(tagTitle).build());
+            return Optional.empty();
         }
-        return tag;
+        return Optional.of(cache(tag));
     }
 
+    private Tag intern(String tagTitle) {
+        jdbcTemplate.update(upsertSql(), tagTitle);
+        Tag tag = tagRepository.findByTitle(tagTitle);
+        afterCommit(() -> tagDictionary.add(tagTitle));
+        return cache(tag);
+    }
+
+    private Tag cache(Tag tag) {
+        Tag detached = Tag.builder().id(tag.getId()).title(tag.getTitle()).build();
+        afterCommit(() -> tags.putIfAbsent(detached.getTitle(), detached));
+        return detached;
+    }
+
+    private String upsertSql() {
+        if (upsertSql == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                upsertSql = "PostgreSQL".equals(product) ? POSTGRESQL_UPSERT_SQL : H2_UPSERT_SQL;
+            } catch (MetaDataAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return upsertSql;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,62 @@
+package com.studyolle.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyolle.global.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+@Component
+public class UnreadNotificationCounter {
+
+    private final Cache<Long, Long> cache;
+
+    public UnreadNotificationCounter(AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.NotificationInboxProperties properties = appProperties.getNotificationInbox();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCounterMaximumSize())
+                .expireAfterWrite(properties.getCounterTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "unread-notifications");
+    }
+
+    public long get(Long accountId, Function<Long, Long> loader) {
+        return cache.get(accountId, loader);
+    }
+
+    public void increment(Collection<Long> accountIds) {
+        afterCommit(() -> accountIds.forEach(accountId -> add(accountId, 1)));
+    }
+
+    public void decrement(Long accountId, long count) {
+        afterCommit(() -> add(accountId, -count));
+    }
+
+    public void reset(Long accountId) {
+        afterCommit(() -> cache.put(accountId, 0L));
+    }
+
+    private void add(Long accountId, long delta) {
+        cache.asMap().computeIfPresent(accountId, (key, count) -> Math.max(count + delta, 0));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package com.studyolle.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.domain.zone.Zone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ZoneRegistry {
+
+    public static final String ZONE_WHITELIST_URL = "/zones/whitelist";
+    public static final String ZONE_PROVINCES_URL = "/zones/provinces";
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of(), new byte[0], new byte[0]);
+
+    public void reload(Collection<Zone> zones) {
+        List<Zone> sorted = zones.stream()
+                .sorted(Comparator.comparing(Zone::getProvince, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Zone::getCity))
+                .collect(Collectors.toList());
+
+        Map<String, Zone> byKey = sorted.stream()
+                .collect(Collectors.toUnmodifiableMap(Zone::toString, Function.identity(), (first, second) -> first));
+        Map<String, List<Zone>> byProvince = new LinkedHashMap<>();
+        sorted.forEach(zone -> byProvince.computeIfAbsent(String.valueOf(zone.getProvince()), key -> new ArrayList<>()).add(zone));
+        byProvince.replaceAll((province, cities) -> List.copyOf(cities));
+
+        Map<String, List<String>> provinces = new LinkedHashMap<>();
+        byProvince.forEach((province, cities) ->
+                provinces.put(province, cities.stream().map(Zone::toString).collect(Collectors.toList())));
+        try {
+            this.snapshot = new Snapshot(byKey, Collections.unmodifiableMap(byProvince),
+                    objectMapper.writeValueAsBytes(sorted.stream().map(Zone::toString).collect(Collectors.toList())),
+                    objectMapper.writeValueAsBytes(provinces));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return !snapshot.byKey.isEmpty();
+    }
+
+    public Optional<Zone> find(String zoneName) {
+        return zoneName == null ? Optional.empty() : Optional.ofNullable(snapshot.byKey.get(zoneName));
+    }
+
+    public Optional<List<Zone>> findAll(Collection<String> zoneNames) {
+        List<Zone> zones = new ArrayList<>(zoneNames.size());
+        for (String zoneName : zoneNames) {
+            Optional<Zone> zone = find(zoneName);
+            if (zone.isEmpty()) {
+                return Optional.empty();
+            }
+            zones.add(zone.get());
+        }
+        return Optional.of(zones);
+    }
+
+    public Map<String, List<Zone>> getZonesByProvince() {
+        return snapshot.byProvince;
+    }
+
+    public String getVersion() {
+        return snapshot.version;
+    }
+
+    public String getWhitelistUrl() {
+        return ZONE_WHITELIST_URL + "?v=" + getVersion();
+    }
+
+    public byte[] getWhitelist() {
+        return snapshot.whitelist;
+    }
+
+    public byte[] getProvinces() {
+        return snapshot.provinces;
+    }
+
+    private static class Snapshot {
+
+        private final Map<String, Zone> byKey;
+
+        private final Map<String, List<Zone>> byProvince;
+
+        private final byte[] whitelist;
+
+        private final byte[] provinces;
+
+        private final String version;
+
+        private Snapshot(Map<String, Zone> byKey, Map<String, List<Zone>> byProvince, byte[] whitelist, byte[] provinces) {
+            this.byKey = byKey;
+            this.byProvince = byProvince;
+            this.whitelist = whitelist;
+            this.provinces = provinces;
+            this.version = DigestUtils.md5DigestAsHex(whitelist);
+        }
+    }
+}
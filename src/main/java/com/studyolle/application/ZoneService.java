@@ -1,41 +1,53 @@
 package com.studyolle.application;
 
-import com.studyolle.domain.zone.Zone;
 import com.studyolle.domain.zone.ZoneRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.annotation.PostConstruct;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
-public class ZoneService {
+public class ZoneService implements ReferenceDataSet {
 
     private final ZoneRepository zoneRepository;
+    private final ZoneRegistry zoneRegistry;
+    private final JdbcTemplate jdbcTemplate;
 
-    @PostConstruct
-    public void initZoneData() throws IOException {
-        if (zoneRepository.count() == 0) {
-            Resource resource = new ClassPathResource("zones_kr.csv");
-            List<Zone> zoneList = Files.readAllLines(resource.getFile().toPath(), StandardCharsets.UTF_8).stream()
-                    .map(line -> {
-                        String[] split = line.split(",");
-                        return Zone.builder()
-                                .city(split[0])
-                                .localNameOfCity(split[1])
-                                .province(split[2])
-                                .build();
-                    }).collect(Collectors.toList());
-            zoneRepository.saveAll(zoneList);
-        }
+    @Override
+    public String getName() {
+        return "zones";
+    }
+
+    @Override
+    public String getResource() {
+        return "zones_kr.csv";
+    }
+
+    @Override
+    public String getInsertSql() {
+        return "insert into zone (city, local_name_of_city, province) values (?, ?, ?)";
+    }
+
+    @Override
+    public Set<List<String>> findExistingKeys() {
+        return new HashSet<>(jdbcTemplate.query("select city, province from zone",
+                (rs, rowNum) -> List.of(rs.getString("city"), String.valueOf(rs.getString("province")))));
+    }
+
+    @Override
+    public List<String> getKey(String[] row) {
+        return List.of(row[0], row[2]);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void onLoaded() {
+        zoneRegistry.reload(zoneRepository.findAll());
     }
 }
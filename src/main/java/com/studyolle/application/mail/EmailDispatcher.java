@@ -0,0 +1,124 @@
+package com.studyolle.application.mail;
+
+import com.studyolle.domain.mail.OutboxEmail;
+import com.studyolle.domain.mail.OutboxEmailRepository;
+import com.studyolle.domain.mail.OutboxEmailStatus;
+import com.studyolle.global.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class EmailDispatcher {
+
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties.MailOutboxProperties properties;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Timer deliveryLatency;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public EmailDispatcher(OutboxEmailRepository outboxEmailRepository, EmailService emailService,
+                           PlatformTransactionManager transactionManager, AppProperties appProperties,
+                           MeterRegistry meterRegistry) {
+        this.outboxEmailRepository = outboxEmailRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = appProperties.getMailOutbox();
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        this.deliveryLatency = Timer.builder("mail.outbox.delivery.latency").register(meterRegistry);
+        this.sent = meterRegistry.counter("mail.outbox.sent");
+        this.retried = meterRegistry.counter("mail.outbox.retried");
+        this.failed = meterRegistry.counter("mail.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "#{@appProperties.mailOutbox.pollInterval.toMillis()}")
+    public void dispatch() {
+        List<OutboxEmail> candidates;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            candidates = outboxEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                    OutboxEmailStatus.PENDING, now, PageRequest.of(0, properties.getBatchSize()));
+            if (!candidates.isEmpty()) {
+                List<OutboxEmail> claimed = claim(candidates, now);
+                if (!claimed.isEmpty()) {
+                    deliver(claimed);
+                }
+            }
+        } while (candidates.size() == properties.getBatchSize());
+        pending.set(outboxEmailRepository.countByStatus(OutboxEmailStatus.PENDING));
+    }
+
+    @Scheduled(cron = "#{@appProperties.mailOutbox.pruneCron}")
+    public void prune() {
+        int deleted = outboxEmailRepository.deleteSentBefore(OutboxEmailStatus.SENT,
+                LocalDateTime.now().minus(properties.getRetention()));
+        log.info("pruned {} sent emails", deleted);
+    }
+
+    private List<OutboxEmail> claim(List<OutboxEmail> candidates, LocalDateTime now) {
+        String claimToken = UUID.randomUUID().toString();
+        List<Long> ids = candidates.stream().map(OutboxEmail::getId).collect(Collectors.toList());
+        int claimed = outboxEmailRepository.claim(ids, OutboxEmailStatus.PENDING, now, claimToken,
+                now.plus(properties.getClaimTimeout()));
+        return claimed == 0 ? List.of() : outboxEmailRepository.findByClaimTokenOrderByIdAsc(claimToken);
+    }
+
+    private void deliver(List<OutboxEmail> batch) {
+        Map<EmailMessage, OutboxEmail> messages = new LinkedHashMap<>();
+        for (OutboxEmail outboxEmail : batch) {
+            messages.put(EmailMessage.builder()
+                    .to(outboxEmail.getRecipient())
+                    .subject(outboxEmail.getSubject())
+                    .message(outboxEmail.getMessage())
+                    .build(), outboxEmail);
+        }
+
+        Map<EmailMessage, Exception> failures = emailService.sendEmails(List.copyOf(messages.keySet()));
+
+        LocalDateTime now = LocalDateTime.now();
+        messages.forEach((emailMessage, outboxEmail) -> {
+            Exception failure = failures.get(emailMessage);
+            if (failure == null) {
+                outboxEmail.sent(now);
+                deliveryLatency.record(Duration.between(outboxEmail.getCreatedAt(), now));
+                sent.increment();
+                return;
+            }
+            outboxEmail.failed(failure.getMessage(), now, backoff(outboxEmail.getAttempts()), properties.getMaxAttempts());
+            if (outboxEmail.getStatus() == OutboxEmailStatus.FAILED) {
+                log.error("giving up on email {} to {}", outboxEmail.getId(), outboxEmail.getRecipient(), failure);
+                failed.increment();
+            } else {
+                retried.increment();
+            }
+        });
+        transactionTemplate.executeWithoutResult(status -> outboxEmailRepository.saveAll(batch));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+}
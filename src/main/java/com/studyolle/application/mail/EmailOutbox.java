@@ -0,0 +1,30 @@
+package com.studyolle.application.mail;
+
+import com.studyolle.domain.mail.OutboxEmail;
+import com.studyolle.domain.mail.OutboxEmailRepository;
+import com.studyolle.domain.mail.OutboxEmailStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private final OutboxEmailRepository outboxEmailRepository;
+
+    public void enqueue(EmailMessage emailMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEmailRepository.save(OutboxEmail.builder()
+                .recipient(emailMessage.getTo())
+                .subject(emailMessage.getSubject())
+                .message(emailMessage.getMessage())
+                .status(OutboxEmailStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+}
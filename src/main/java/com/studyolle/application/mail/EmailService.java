@@ -1,5 +1,21 @@
 package com.studyolle.application.mail;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface EmailService {
     void sendEmail(EmailMessage emailMessage);
+
+    default Map<EmailMessage, Exception> sendEmails(List<EmailMessage> emailMessages) {
+        Map<EmailMessage, Exception> failures = new HashMap<>();
+        for (EmailMessage emailMessage : emailMessages) {
+            try {
+                sendEmail(emailMessage);
+            } catch (RuntimeException e) {
+                failures.put(emailMessage, e);
+            }
+        }
+        return failures;
+    }
 }
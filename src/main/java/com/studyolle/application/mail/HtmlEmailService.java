@@ -3,12 +3,18 @@ package com.studyolle.application.mail;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Profile("dev")
@@ -20,17 +26,50 @@ public class HtmlEmailService implements EmailService {
 
     @Override
     public void sendEmail(EmailMessage emailMessage) {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
         try {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            mimeMessageHelper.setTo(emailMessage.getTo());
-            mimeMessageHelper.setSubject(emailMessage.getSubject());
-            mimeMessageHelper.setText(emailMessage.getMessage(), true);
-            javaMailSender.send(mimeMessage);
-            log.error("sent email: {}", emailMessage.getMessage());
+            javaMailSender.send(toMimeMessage(emailMessage));
+            log.info("sent email to {}", emailMessage.getTo());
         } catch (MessagingException e) {
             log.error("failed to email", e);
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public Map<EmailMessage, Exception> sendEmails(List<EmailMessage> emailMessages) {
+        Map<EmailMessage, Exception> failures = new HashMap<>();
+        Map<MimeMessage, EmailMessage> mimeMessages = new IdentityHashMap<>();
+        for (EmailMessage emailMessage : emailMessages) {
+            try {
+                mimeMessages.put(toMimeMessage(emailMessage), emailMessage);
+            } catch (MessagingException e) {
+                failures.put(emailMessage, e);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            javaMailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                mimeMessages.values().forEach(emailMessage -> failures.put(emailMessage, e));
+            }
+            e.getFailedMessages().forEach((mimeMessage, cause) -> failures.put(mimeMessages.get(mimeMessage), cause));
+        } catch (MailException e) {
+            mimeMessages.values().forEach(emailMessage -> failures.put(emailMessage, e));
+        }
+        log.info("sent {} of {} emails", emailMessages.size() - failures.size(), emailMessages.size());
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage emailMessage) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        mimeMessageHelper.setTo(emailMessage.getTo());
+        mimeMessageHelper.setSubject(emailMessage.getSubject());
+        mimeMessageHelper.setText(emailMessage.getMessage(), true);
+        return mimeMessage;
+    }
 }
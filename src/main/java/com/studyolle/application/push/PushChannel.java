@@ -0,0 +1,120 @@
+package com.studyolle.application.push;
+
+import com.studyolle.global.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class PushChannel implements DisposableBean {
+
+    private final Map<Long, Set<PushConnection>> accountConnections = new ConcurrentHashMap<>();
+    private final Map<Long, Set<PushConnection>> eventConnections = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService executor;
+    private final AppProperties.PushProperties properties;
+    private final Counter droppedCounter;
+
+    public PushChannel(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.properties = appProperties.getPush();
+        this.executor = Executors.newFixedThreadPool(properties.getThreads(), new CustomizableThreadFactory("Push-"));
+        this.droppedCounter = meterRegistry.counter("push.dropped");
+        meterRegistry.gauge("push.connections", connections);
+    }
+
+    public SseEmitter connect(Long accountId, Long eventId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        PushConnection connection = new PushConnection(accountId, eventId, emitter, properties.getQueueCapacity());
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(e -> close(connection));
+
+        register(accountConnections, accountId, connection);
+        if (eventId != null) {
+            register(eventConnections, eventId, connection);
+        }
+        connections.incrementAndGet();
+        send(connection, PushMessage.heartbeat());
+        return emitter;
+    }
+
+    public boolean isConnected(Long accountId) {
+        return accountConnections.containsKey(accountId);
+    }
+
+    public void sendToAccount(Long accountId, PushMessage message) {
+        accountConnections.getOrDefault(accountId, Set.of()).forEach(connection -> send(connection, message));
+    }
+
+    public void sendToEvent(Long eventId, PushMessage message) {
+        eventConnections.getOrDefault(eventId, Set.of()).forEach(connection -> send(connection, message));
+    }
+
+    public boolean hasEventSubscribers(Long eventId) {
+        return eventConnections.containsKey(eventId);
+    }
+
+    @Scheduled(fixedDelayString = "#{@appProperties.push.heartbeatInterval.toMillis()}")
+    public void heartbeat() {
+        accountConnections.values().forEach(set -> set.forEach(connection -> send(connection, PushMessage.heartbeat())));
+    }
+
+    @Override
+    public void destroy() {
+        accountConnections.values().forEach(set -> set.forEach(this::close));
+        executor.shutdownNow();
+    }
+
+    private void send(PushConnection connection, PushMessage message) {
+        if (!connection.offer(message, executor) && !connection.isClosed()) {
+            droppedCounter.increment();
+            log.debug("closing slow push connection of account {}", connection.getAccountId());
+            close(connection);
+        }
+    }
+
+    private void close(PushConnection connection) {
+        connection.close();
+        unregister(connection);
+    }
+
+    private void register(Map<Long, Set<PushConnection>> registry, Long key, PushConnection connection) {
+        registry.compute(key, (k, set) -> {
+            Set<PushConnection> connections = set == null ? ConcurrentHashMap.newKeySet() : set;
+            connections.add(connection);
+            return connections;
+        });
+    }
+
+    private void unregister(PushConnection connection) {
+        boolean removed = unregister(accountConnections, connection.getAccountId(), connection);
+        if (connection.getEventId() != null) {
+            unregister(eventConnections, connection.getEventId(), connection);
+        }
+        if (removed) {
+            connections.decrementAndGet();
+        }
+    }
+
+    private boolean unregister(Map<Long, Set<PushConnection>> registry, Long key, PushConnection connection) {
+        boolean[] removed = {false};
+        registry.computeIfPresent(key, (k, set) -> {
+            removed[0] = set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+        return removed[0];
+    }
+}
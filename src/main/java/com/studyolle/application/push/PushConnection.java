@@ -0,0 +1,75 @@
+package com.studyolle.application.push;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Getter
+class PushConnection {
+
+    private final Long accountId;
+    private final Long eventId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<PushMessage> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    PushConnection(Long accountId, Long eventId, SseEmitter emitter, int queueCapacity) {
+        this.accountId = accountId;
+        this.eventId = eventId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    boolean offer(PushMessage message, Executor executor) {
+        if (closed.get() || !queue.offer(message)) {
+            return false;
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(executor));
+        }
+        return true;
+    }
+
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        emitter.complete();
+        return true;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    private void drain(Executor executor) {
+        try {
+            PushMessage message;
+            while (!closed.get() && (message = queue.poll()) != null) {
+                emitter.send(toEvent(message));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            scheduled.set(false);
+        }
+        if (!closed.get() && !queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(executor));
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(PushMessage message) {
+        if (message.isHeartbeat()) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event().name(message.getName()).data(message.getData(), MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,28 @@
+package com.studyolle.application.push;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PushMessage {
+
+    private static final PushMessage HEARTBEAT = new PushMessage(null, null);
+
+    private final String name;
+
+    private final Object data;
+
+    public static PushMessage of(String name, Object data) {
+        return new PushMessage(name, data);
+    }
+
+    public static PushMessage heartbeat() {
+        return HEARTBEAT;
+    }
+
+    public boolean isHeartbeat() {
+        return name == null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.studyolle.application.push;
+
+import com.studyolle.application.NotificationService;
+import com.studyolle.domain.enrollment.EnrollmentChangedEvent;
+import com.studyolle.domain.event.EventRepository;
+import com.studyolle.domain.notification.NotificationsCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PushPublisher {
+
+    private final PushChannel pushChannel;
+    private final NotificationService notificationService;
+    private final EventRepository eventRepository;
+
+    @TransactionalEventListener
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        event.getAccountIds().stream()
+                .filter(pushChannel::isConnected)
+                .forEach(accountId -> pushChannel.sendToAccount(accountId, PushMessage.of("notification",
+                        Map.of("unread", notificationService.countUnread(accountId)))));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        event.getAcceptedByAccountId().forEach((accountId, accepted) -> pushChannel.sendToAccount(accountId,
+                PushMessage.of("enrollment", Map.of("eventId", event.getEventId(), "accepted", accepted))));
+        if (pushChannel.hasEventSubscribers(event.getEventId())) {
+            eventRepository.findById(event.getEventId())
+                    .ifPresent(e -> pushChannel.sendToEvent(e.getId(), PushMessage.of("spots",
+                            Map.of("eventId", e.getId(), "remainingSpots", e.numberOfRemainSpots()))));
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.studyolle.domain.account;
 
-import com.studyolle.domain.study.Study;
 import com.studyolle.domain.tag.Tag;
 import com.studyolle.domain.zone.Zone;
 import lombok.*;
@@ -49,7 +48,7 @@ public class Account {
     private String location;
 
     @Lob
-    @Basic(fetch = FetchType.EAGER)
+    @Basic(fetch = FetchType.LAZY)
     private String profileImage;
 
     private boolean studyCreatedByEmail;
@@ -87,8 +86,4 @@ public class Account {
     public boolean canSendConfirmEmail() {
         return this.emailCheckTokenGeneratedAt.isBefore(LocalDateTime.now().minusHours(1));
     }
-
-    public boolean isManagerOf(Study study) {
-        return study.getManagers().contains(this);
-    }
 }
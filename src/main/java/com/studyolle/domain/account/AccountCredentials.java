@@ -0,0 +1,19 @@
+package com.studyolle.domain.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccountCredentials {
+
+    private final Long id;
+
+    private final String email;
+
+    private final String nickname;
+
+    private final String password;
+
+    private final boolean emailVerified;
+}
@@ -0,0 +1,11 @@
+package com.studyolle.domain.account;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AccountInterestsChangedEvent {
+
+    private final Long accountId;
+}
@@ -1,8 +1,21 @@
 package com.studyolle.domain.account;
 
+import com.studyolle.domain.tag.Tag;
+import com.studyolle.domain.zone.Zone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Transactional(readOnly = true)
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
@@ -13,4 +26,51 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Account findByEmail(String email);
 
     Account findByNickname(String nickname);
+
+    @Query("select new com.studyolle.domain.account.AccountCredentials(a.id, a.email, a.nickname, a.password, a.emailVerified) " +
+            "from Account a where a.email = :username or a.nickname = :username")
+    List<AccountCredentials> findCredentials(@Param("username") String emailOrNickname);
+
+    @Transactional
+    @Modifying
+    @Query("update Account a set a.password = :password where a.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    @EntityGraph(attributePaths = {"tags", "zones"})
+    Optional<Account> findAccountWithTagsAndZonesById(Long id);
+
+    @Query("select distinct a.id from Account a join a.tags t join a.zones z where t in :tags and z in :zones")
+    List<Long> findIdsByInterests(@Param("tags") Set<Tag> tags, @Param("zones") Set<Zone> zones);
+
+    @Query("select a.id from Account a order by a.id")
+    Slice<Long> findIds(Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from account_tags where account_id = :accountId", nativeQuery = true)
+    int deleteAllTags(@Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from account_tags where account_id = :accountId and tags_id not in (:ids)", nativeQuery = true)
+    int deleteTagsNotIn(@Param("accountId") Long accountId, @Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into account_tags (account_id, tags_id) select :accountId, t.id from tag t " +
+            "where t.id in (:ids) and not exists " +
+            "(select 1 from account_tags j where j.account_id = :accountId and j.tags_id = t.id)", nativeQuery = true)
+    int insertMissingTags(@Param("accountId") Long accountId, @Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from account_zones where account_id = :accountId and zones_id in (:ids)", nativeQuery = true)
+    int deleteZonesIn(@Param("accountId") Long accountId, @Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into account_zones (account_id, zones_id) select :accountId, z.id from zone z " +
+            "where z.id in (:ids) and not exists " +
+            "(select 1 from account_zones j where j.account_id = :accountId and j.zones_id = z.id)", nativeQuery = true)
+    int insertMissingZones(@Param("accountId") Long accountId, @Param("ids") Collection<Long> ids);
 }
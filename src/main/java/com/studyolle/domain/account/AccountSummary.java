@@ -0,0 +1,21 @@
+package com.studyolle.domain.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccountSummary {
+
+    private final Long id;
+
+    private final String nickname;
+
+    private final String bio;
+
+    private final String profileImage;
+
+    public static AccountSummary of(Account account) {
+        return new AccountSummary(account.getId(), account.getNickname(), account.getBio(), account.getProfileImage());
+    }
+}
@@ -0,0 +1,28 @@
+package com.studyolle.domain.account;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@EqualsAndHashCode(of = "hash")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileImage {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+
+    private LocalDateTime createdAt;
+}
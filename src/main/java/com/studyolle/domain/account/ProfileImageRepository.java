@@ -0,0 +1,8 @@
+package com.studyolle.domain.account;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface ProfileImageRepository extends JpaRepository<ProfileImage, String> {
+}
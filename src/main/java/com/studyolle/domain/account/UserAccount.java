@@ -9,10 +9,27 @@ import java.util.List;
 @Getter
 public class UserAccount extends User {
 
-    private Account account;
+    private final Long accountId;
+
+    private final String email;
+
+    private final boolean emailVerified;
 
     public UserAccount(Account account) {
         super(account.getNickname(), account.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
-        this.account = account;
+        this.accountId = account.getId();
+        this.email = account.getEmail();
+        this.emailVerified = account.isEmailVerified();
+    }
+
+    public UserAccount(AccountCredentials credentials) {
+        super(credentials.getNickname(), credentials.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        this.accountId = credentials.getId();
+        this.email = credentials.getEmail();
+        this.emailVerified = credentials.isEmailVerified();
+    }
+
+    public String getNickname() {
+        return getUsername();
     }
 }
@@ -7,14 +7,22 @@ import lombok.Getter;
 import lombok.Setter;
 
 import javax.persistence.*;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
+@Table(uniqueConstraints = {@UniqueConstraint(columnNames = {"event_id", "account_id"}),
+        @UniqueConstraint(columnNames = {"event_id", "checkInToken"})},
+        indexes = @Index(columnList = "event_id, accepted, enrolledAt"))
 public class Enrollment {
 
+    private static final int CHECK_IN_TOKEN_LENGTH = 10;
+    private static final char[] CHECK_IN_TOKEN_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -31,4 +39,24 @@ public class Enrollment {
 
     private boolean attended;
 
+    @Column(length = CHECK_IN_TOKEN_LENGTH)
+    private String checkInToken;
+
+    public static Enrollment of(Event event, Account account, boolean accepted) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setEvent(event);
+        enrollment.setAccount(account);
+        enrollment.setEnrolledAt(LocalDateTime.now());
+        enrollment.setAccepted(accepted);
+        enrollment.setCheckInToken(newCheckInToken());
+        return enrollment;
+    }
+
+    private static String newCheckInToken() {
+        char[] token = new char[CHECK_IN_TOKEN_LENGTH];
+        for (int i = 0; i < token.length; i++) {
+            token[i] = CHECK_IN_TOKEN_ALPHABET[RANDOM.nextInt(CHECK_IN_TOKEN_ALPHABET.length)];
+        }
+        return new String(token);
+    }
 }
@@ -0,0 +1,15 @@
+package com.studyolle.domain.enrollment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class EnrollmentChangedEvent {
+
+    private final Long eventId;
+
+    private final Map<Long, Boolean> acceptedByAccountId;
+}
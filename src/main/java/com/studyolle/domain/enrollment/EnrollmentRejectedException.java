@@ -0,0 +1,8 @@
+package com.studyolle.domain.enrollment;
+
+public class EnrollmentRejectedException extends IllegalStateException {
+
+    public EnrollmentRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,51 @@
+package com.studyolle.domain.enrollment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    Optional<Enrollment> findByEventIdAndAccountId(Long eventId, Long accountId);
+
+    boolean existsByEventIdAndAccountId(Long eventId, Long accountId);
+
+    Optional<Enrollment> findFirstByEventIdAndAcceptedFalseOrderByEnrolledAtAscIdAsc(Long eventId);
+
+    @Query("select new com.studyolle.domain.enrollment.EnrollmentSummary(en.id, a.id, a.nickname, a.bio, " +
+            "a.profileImage, en.enrolledAt, en.accepted, en.attended) " +
+            "from Enrollment en join en.account a where en.event.id = :eventId order by en.enrolledAt, en.id")
+    List<EnrollmentSummary> findSummariesByEventId(@Param("eventId") Long eventId);
+
+    @Query("select en.account.id from Enrollment en " +
+            "where en.event.id = :eventId and en.id in :ids and en.accepted = :accepted and en.attended = false")
+    List<Long> findAccountIds(@Param("eventId") Long eventId, @Param("ids") Collection<Long> ids,
+                              @Param("accepted") boolean accepted);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment en set en.accepted = :accepted " +
+            "where en.event.id = :eventId and en.id in :ids and en.accepted <> :accepted and en.attended = false")
+    int updateAccepted(@Param("eventId") Long eventId, @Param("ids") Collection<Long> ids,
+                       @Param("accepted") boolean accepted);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment en set en.attended = :attended " +
+            "where en.event.id = :eventId and en.id in :ids and en.accepted = true and en.attended <> :attended")
+    int updateAttended(@Param("eventId") Long eventId, @Param("ids") Collection<Long> ids,
+                       @Param("attended") boolean attended);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment en set en.attended = true where en.event.id = :eventId " +
+            "and en.checkInToken = :token and en.accepted = true and en.attended = false")
+    int checkInByToken(@Param("eventId") Long eventId, @Param("token") String token);
+}
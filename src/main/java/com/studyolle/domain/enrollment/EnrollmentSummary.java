@@ -0,0 +1,29 @@
+package com.studyolle.domain.enrollment;
+
+import com.studyolle.domain.account.AccountSummary;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class EnrollmentSummary {
+
+    private final Long id;
+
+    private final AccountSummary account;
+
+    private final LocalDateTime enrolledAt;
+
+    private final boolean accepted;
+
+    private final boolean attended;
+
+    public EnrollmentSummary(Long id, Long accountId, String nickname, String bio, String profileImage,
+                             LocalDateTime enrolledAt, boolean accepted, boolean attended) {
+        this.id = id;
+        this.account = new AccountSummary(accountId, nickname, bio, profileImage);
+        this.enrolledAt = enrolledAt;
+        this.accepted = accepted;
+        this.attended = attended;
+    }
+}
@@ -1,7 +1,6 @@
 package com.studyolle.domain.event;
 
 import com.studyolle.domain.account.Account;
-import com.studyolle.domain.account.UserAccount;
 import com.studyolle.domain.enrollment.Enrollment;
 import com.studyolle.domain.study.Study;
 import lombok.EqualsAndHashCode;
@@ -12,11 +11,8 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
-@NamedEntityGraph(
-        name = "Event.withEnrollments",
-        attributeNodes = @NamedAttributeNode("enrollments")
-)
 @Entity
+@Table(indexes = @Index(columnList = "study_id, endDateTime"))
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
@@ -59,35 +55,23 @@ public class Event {
     @Enumerated(EnumType.STRING)
     private EventType eventType;
 
+    @Column(nullable = false)
+    private int acceptedCount;
+
+    @Column(nullable = false)
+    private int enrollmentCount;
+
     public void addData(Study study, Account account) {
         this.createDateTime = LocalDateTime.now();
         this.study = study;
         this.createdBy = account;
     }
 
-    public boolean isEnrollableFor(UserAccount userAccount) {
-        return isNotClosed() && !isAlreadyEnrolled(userAccount);
-    }
-
-    public boolean isDisenrollableFor(UserAccount userAccount) {
-        return isNotClosed() && isAlreadyEnrolled(userAccount);
-    }
-
-    private boolean isNotClosed() {
+    public boolean isNotClosed() {
         return this.endEnrollmentDateTime.isAfter(LocalDateTime.now());
     }
 
-    public boolean isAttended(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        return this.enrollments.stream().anyMatch(value -> value.getEvent().equals(account) && value.isAttended());
-    }
-
-    private boolean isAlreadyEnrolled(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        return this.enrollments.stream().anyMatch(value -> value.equals(account));
-    }
-
     public int numberOfRemainSpots() {
-        return this.limitOfEnrollments - (int) this.enrollments.stream().filter(Enrollment::isAccepted).count();
+        return Math.max(this.limitOfEnrollments - this.acceptedCount, 0);
     }
 }
@@ -0,0 +1,89 @@
+package com.studyolle.domain.event;
+
+import com.studyolle.domain.account.AccountSummary;
+import com.studyolle.domain.enrollment.EnrollmentSummary;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public class EventDetail {
+
+    private final Long id;
+
+    private final Long studyId;
+
+    private final String title;
+
+    private final String description;
+
+    private final EventType eventType;
+
+    private final int limitOfEnrollments;
+
+    private final int acceptedCount;
+
+    private final int enrollmentCount;
+
+    private final LocalDateTime endEnrollmentDateTime;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    private final AccountSummary createdBy;
+
+    private final List<EnrollmentSummary> enrollments;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, EnrollmentSummary> enrollmentsByAccount;
+
+    private EventDetail(Event event, List<EnrollmentSummary> enrollments) {
+        this.id = event.getId();
+        this.studyId = event.getStudy().getId();
+        this.title = event.getTitle();
+        this.description = event.getDescription();
+        this.eventType = event.getEventType();
+        this.limitOfEnrollments = event.getLimitOfEnrollments();
+        this.acceptedCount = event.getAcceptedCount();
+        this.enrollmentCount = event.getEnrollmentCount();
+        this.endEnrollmentDateTime = event.getEndEnrollmentDateTime();
+        this.startDateTime = event.getStartDateTime();
+        this.endDateTime = event.getEndDateTime();
+        this.createdBy = AccountSummary.of(event.getCreatedBy());
+        this.enrollments = List.copyOf(enrollments);
+        this.enrollmentsByAccount = enrollments.stream()
+                .collect(Collectors.toMap(enrollment -> enrollment.getAccount().getId(), Function.identity()));
+    }
+
+    public static EventDetail of(Event event, List<EnrollmentSummary> enrollments) {
+        return new EventDetail(event, enrollments);
+    }
+
+    public Optional<EnrollmentSummary> findEnrollment(Long accountId) {
+        return Optional.ofNullable(enrollmentsByAccount.get(accountId));
+    }
+
+    public boolean isNotClosed() {
+        return this.endEnrollmentDateTime.isAfter(LocalDateTime.now());
+    }
+
+    public int numberOfRemainSpots() {
+        return Math.max(this.limitOfEnrollments - this.acceptedCount, 0);
+    }
+
+    public boolean isAcceptable(EnrollmentSummary enrollment) {
+        return this.eventType == EventType.CONFIRMATIVE && isNotClosed()
+                && !enrollment.isAccepted() && numberOfRemainSpots() > 0;
+    }
+
+    public boolean isRejectable(EnrollmentSummary enrollment) {
+        return this.eventType == EventType.CONFIRMATIVE && isNotClosed() && enrollment.isAccepted();
+    }
+}
@@ -1,17 +1,53 @@
 package com.studyolle.domain.event;
 
-import com.studyolle.domain.study.Study;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @Transactional(readOnly = true)
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    @EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.LOAD)
-    List<Event> findByStudyOrderByStartDateTime(Study study);
+    List<Event> findByStudyIdAndEndDateTimeGreaterThanEqualOrderByStartDateTime(Long studyId, LocalDateTime now);
+
+    Slice<Event> findByStudyIdAndEndDateTimeLessThanOrderByEndDateTimeDesc(Long studyId, LocalDateTime now, Pageable pageable);
+
+    boolean existsByIdAndStudyId(Long id, Long studyId);
+
+    @Query("select e from Event e join fetch e.createdBy where e.id = :id")
+    Optional<Event> findEventWithCreatorById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + :count " +
+            "where e.id = :id and e.acceptedCount + :count <= e.limitOfEnrollments")
+    int allocateSeats(@Param("id") Long id, @Param("count") int count);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Event e set e.acceptedCount = e.acceptedCount - :count where e.id = :id and e.acceptedCount >= :count")
+    int releaseSeats(@Param("id") Long id, @Param("count") int count);
+
+    default int allocateSeat(Long id) {
+        return allocateSeats(id, 1);
+    }
+
+    default int releaseSeat(Long id) {
+        return releaseSeats(id, 1);
+    }
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Event e set e.enrollmentCount = e.enrollmentCount + :delta " +
+            "where e.id = :id and e.enrollmentCount + :delta >= 0")
+    int addEnrollments(@Param("id") Long id, @Param("delta") int delta);
 }
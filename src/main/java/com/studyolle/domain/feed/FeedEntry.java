@@ -0,0 +1,36 @@
+package com.studyolle.domain.feed;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(indexes = @Index(columnList = "accountId, publishedDateTime"),
+        uniqueConstraints = @UniqueConstraint(columnNames = {"accountId", "studyId"}))
+public class FeedEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private Long studyId;
+
+    private String studyPath;
+
+    private String studyTitle;
+
+    private String studyShortDescription;
+
+    private LocalDateTime publishedDateTime;
+}
@@ -0,0 +1,25 @@
+package com.studyolle.domain.feed;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, Long> {
+
+    List<FeedEntry> findFirst9ByAccountIdOrderByPublishedDateTimeDesc(Long accountId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from FeedEntry f where f.studyId = :studyId")
+    void deleteByStudyId(@Param("studyId") Long studyId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from FeedEntry f where f.accountId = :accountId")
+    void deleteByAccountId(@Param("accountId") Long accountId);
+}
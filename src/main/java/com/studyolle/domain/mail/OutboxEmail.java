@@ -0,0 +1,71 @@
+package com.studyolle.domain.mail;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(indexes = {@Index(columnList = "status, nextAttemptAt"), @Index(columnList = "claimToken")})
+public class OutboxEmail {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Lob
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEmailStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(length = 36)
+    private String claimToken;
+
+    public void sent(LocalDateTime now) {
+        this.status = OutboxEmailStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+        this.claimToken = null;
+    }
+
+    public void failed(String error, LocalDateTime now, Duration backoff, int maxAttempts) {
+        this.attempts++;
+        this.claimToken = null;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxEmailStatus.FAILED;
+        } else {
+            this.nextAttemptAt = now.plus(backoff);
+        }
+    }
+}
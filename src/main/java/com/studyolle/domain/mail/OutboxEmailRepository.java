@@ -0,0 +1,34 @@
+package com.studyolle.domain.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+
+    List<OutboxEmail> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(OutboxEmailStatus status, LocalDateTime now,
+                                                                           Pageable pageable);
+
+    List<OutboxEmail> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    long countByStatus(OutboxEmailStatus status);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OutboxEmail e set e.claimToken = :claimToken, e.nextAttemptAt = :leaseUntil " +
+            "where e.id in :ids and e.status = :status and e.nextAttemptAt <= :now")
+    int claim(@Param("ids") List<Long> ids, @Param("status") OutboxEmailStatus status, @Param("now") LocalDateTime now,
+              @Param("claimToken") String claimToken, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEmail e where e.status = :status and e.sentAt < :before")
+    int deleteSentBefore(@Param("status") OutboxEmailStatus status, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,6 @@
+package com.studyolle.domain.mail;
+
+public enum OutboxEmailStatus {
+
+    PENDING, SENT, FAILED
+}
@@ -0,0 +1,40 @@
+package com.studyolle.domain.notification;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(indexes = {@Index(columnList = "accountId, checked, createdDateTime"),
+        @Index(columnList = "emailPending, accountId")})
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    private String title;
+
+    private String link;
+
+    private String message;
+
+    private boolean checked;
+
+    private boolean emailPending;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType notificationType;
+
+    private LocalDateTime createdDateTime;
+}
@@ -0,0 +1,64 @@
+package com.studyolle.domain.notification;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    @Query("select distinct n.accountId from Notification n " +
+            "where n.emailPending = true and n.accountId > :after and n.createdDateTime <= :until order by n.accountId")
+    List<Long> findDigestAccountIds(@Param("after") Long after, @Param("until") LocalDateTime until, Pageable pageable);
+
+    @Query(value = "select n.* from notification n join (select id, row_number() over " +
+            "(partition by account_id order by created_date_time desc, id desc) as digest_order from notification " +
+            "where email_pending = true and account_id in (:accountIds) and created_date_time <= :until) ranked " +
+            "on ranked.id = n.id where ranked.digest_order <= :maxItems " +
+            "order by n.account_id, n.created_date_time desc, n.id desc", nativeQuery = true)
+    List<Notification> findDigestNotifications(@Param("accountIds") Collection<Long> accountIds,
+                                               @Param("until") LocalDateTime until, @Param("maxItems") int maxItems);
+
+    @Query("select new com.studyolle.domain.notification.PendingNotificationCount(n.accountId, count(n)) " +
+            "from Notification n " +
+            "where n.emailPending = true and n.accountId in :accountIds and n.createdDateTime <= :until " +
+            "group by n.accountId")
+    List<PendingNotificationCount> countDigestNotifications(@Param("accountIds") Collection<Long> accountIds,
+                                                            @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.emailPending = false " +
+            "where n.emailPending = true and n.accountId in :accountIds and n.createdDateTime <= :until")
+    int markDigested(@Param("accountIds") Collection<Long> accountIds, @Param("until") LocalDateTime until);
+
+    Slice<Notification> findByAccountIdAndCheckedOrderByCreatedDateTimeDesc(Long accountId, boolean checked,
+                                                                           Pageable pageable);
+
+    long countByAccountIdAndChecked(Long accountId, boolean checked);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.checked = true " +
+            "where n.accountId = :accountId and n.checked = false and n.id in :ids")
+    int markChecked(@Param("accountId") Long accountId, @Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.checked = true where n.accountId = :accountId and n.checked = false")
+    int markAllChecked(@Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Notification n " +
+            "where n.checked = true and n.emailPending = false and n.createdDateTime < :before")
+    int deleteCheckedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,28 @@
+package com.studyolle.domain.notification;
+
+import com.studyolle.domain.account.Account;
+
+import java.util.function.Predicate;
+
+public enum NotificationType {
+
+    STUDY_CREATED(Account::isStudyCreatedByWeb, Account::isStudyCreatedByEmail),
+    STUDY_UPDATED(Account::isStudyUpdatedByWeb, Account::isStudyUpdatedByEmail),
+    EVENT_ENROLLMENT(Account::isStudyEnrollmentResultByWeb, Account::isStudyEnrollmentResultByEmail);
+
+    private final Predicate<Account> byWeb;
+    private final Predicate<Account> byEmail;
+
+    NotificationType(Predicate<Account> byWeb, Predicate<Account> byEmail) {
+        this.byWeb = byWeb;
+        this.byEmail = byEmail;
+    }
+
+    public boolean isNotifiedByWeb(Account account) {
+        return byWeb.test(account);
+    }
+
+    public boolean isNotifiedByEmail(Account account) {
+        return byEmail.test(account);
+    }
+}
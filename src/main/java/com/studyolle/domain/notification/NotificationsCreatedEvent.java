@@ -0,0 +1,13 @@
+package com.studyolle.domain.notification;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+@Getter
+@RequiredArgsConstructor
+public class NotificationsCreatedEvent {
+
+    private final Collection<Long> accountIds;
+}
@@ -0,0 +1,13 @@
+package com.studyolle.domain.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PendingNotificationCount {
+
+    private final Long accountId;
+
+    private final long count;
+}
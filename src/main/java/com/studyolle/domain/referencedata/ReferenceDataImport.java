@@ -0,0 +1,24 @@
+package com.studyolle.domain.referencedata;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@EqualsAndHashCode(of = "name")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReferenceDataImport {
+
+    @Id
+    private String name;
+
+    private String checksum;
+
+    private LocalDateTime importedAt;
+}
@@ -0,0 +1,6 @@
+package com.studyolle.domain.referencedata;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReferenceDataImportRepository extends JpaRepository<ReferenceDataImport, String> {
+}
@@ -1,7 +1,6 @@
 package com.studyolle.domain.study;
 
 import com.studyolle.domain.account.Account;
-import com.studyolle.domain.account.UserAccount;
 import com.studyolle.domain.tag.Tag;
 import com.studyolle.domain.zone.Zone;
 import lombok.*;
@@ -13,19 +12,13 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
-@NamedEntityGraph(name = "Study.withAll", attributeNodes = {
+@NamedEntityGraph(name = "Study.withTagsAndZones", attributeNodes = {
         @NamedAttributeNode("tags"),
-        @NamedAttributeNode("zones"),
-        @NamedAttributeNode("managers"),
-        @NamedAttributeNode("members")})
-@NamedEntityGraph(name = "Study.withTagsAndManagers", attributeNodes = {
-        @NamedAttributeNode("tags"),
-        @NamedAttributeNode("managers")})
-@NamedEntityGraph(name = "Study.withZonesAndManagers", attributeNodes = {
-        @NamedAttributeNode("zones"),
-        @NamedAttributeNode("managers")})
-@NamedEntityGraph(name = "Study.withManagers", attributeNodes = {
-        @NamedAttributeNode("managers")})
+        @NamedAttributeNode("zones")})
+@NamedEntityGraph(name = "Study.withTags", attributeNodes = {
+        @NamedAttributeNode("tags")})
+@NamedEntityGraph(name = "Study.withZones", attributeNodes = {
+        @NamedAttributeNode("zones")})
 @NamedEntityGraph(name = "Study.withMembers", attributeNodes = {
         @NamedAttributeNode("members")})
 @Entity
@@ -86,21 +79,6 @@ public class Study {
         this.managers.add(account);
     }
 
-    public boolean isJoinable(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        return this.isPublished() && this.isRecruiting()
-                && !this.members.contains(account) && !this.managers.contains(account);
-
-    }
-
-    public boolean isMember(UserAccount userAccount) {
-        return this.members.contains(userAccount.getAccount());
-    }
-
-    public boolean isManager(UserAccount userAccount) {
-        return this.managers.contains(userAccount.getAccount());
-    }
-
     public void changeImage(String image) {
         this.image = image;
     }
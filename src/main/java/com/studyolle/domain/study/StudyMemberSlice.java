@@ -0,0 +1,31 @@
+package com.studyolle.domain.study;
+
+import com.studyolle.domain.account.AccountSummary;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class StudyMemberSlice {
+
+    private final List<AccountSummary> content;
+
+    private final String nextCursor;
+
+    private StudyMemberSlice(List<AccountSummary> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public static StudyMemberSlice of(List<AccountSummary> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new StudyMemberSlice(List.copyOf(fetched), null);
+        }
+        List<AccountSummary> content = List.copyOf(fetched.subList(0, size));
+        return new StudyMemberSlice(content, content.get(size - 1).getNickname());
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
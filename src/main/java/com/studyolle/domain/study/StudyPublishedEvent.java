@@ -0,0 +1,11 @@
+package com.studyolle.domain.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class StudyPublishedEvent {
+
+    private final Long studyId;
+}
@@ -1,27 +1,96 @@
 package com.studyolle.domain.study;
 
+import com.studyolle.domain.account.AccountSummary;
+import com.studyolle.domain.tag.Tag;
+import com.studyolle.domain.zone.Zone;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Transactional(readOnly = true)
 public interface StudyRepository extends JpaRepository<Study, Long> {
 
     boolean existsByPath(String path);
 
-    @EntityGraph(value = "Study.withAll", type = EntityGraph.EntityGraphType.LOAD)
-    Study findByPath(String path);
+    @EntityGraph(value = "Study.withTagsAndZones", type = EntityGraph.EntityGraphType.LOAD)
+    Study findStudyWithTagsAndZonesByPath(String path);
+
+    @EntityGraph(value = "Study.withTagsAndZones", type = EntityGraph.EntityGraphType.LOAD)
+    Optional<Study> findStudyWithTagsAndZonesById(Long id);
+
+    @EntityGraph(value = "Study.withTagsAndZones", type = EntityGraph.EntityGraphType.LOAD)
+    List<Study> findDistinctStudyWithTagsAndZonesByPublished(boolean published);
+
+    Study findStudyOnlyByPath(String path);
 
-    @EntityGraph(value = "Study.withTagsAndManagers", type = EntityGraph.EntityGraphType.FETCH)
+    @EntityGraph(value = "Study.withTags", type = EntityGraph.EntityGraphType.FETCH)
     Study findStudyWithTagsByPath(String path);
 
-    @EntityGraph(value = "Study.withZonesAndManagers", type = EntityGraph.EntityGraphType.FETCH)
+    @EntityGraph(value = "Study.withZones", type = EntityGraph.EntityGraphType.FETCH)
     Study findStudyWithZonesByPath(String path);
 
-    @EntityGraph(value = "Study.withManagers", type = EntityGraph.EntityGraphType.FETCH)
-    Study findStudyWithManagersByPath(String path);
-
     @EntityGraph(value = "Study.withMembers", type = EntityGraph.EntityGraphType.FETCH)
     Study findStudyWithMembersByPath(String path);
 
+    @Query(value = "select exists(select 1 from study_managers where study_id = :studyId and managers_id = :accountId)",
+            nativeQuery = true)
+    boolean existsManager(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Query(value = "select exists(select 1 from study_members where study_id = :studyId and members_id = :accountId)",
+            nativeQuery = true)
+    boolean existsMember(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Query("select distinct s from Study s join s.tags t join s.zones z " +
+            "where s.published = true and s.closed = false and s.recruiting = true and t in :tags and z in :zones " +
+            "order by s.publishedDateTime desc")
+    List<Study> findRecruitingByInterests(@Param("tags") Set<Tag> tags, @Param("zones") Set<Zone> zones, Pageable pageable);
+
+    @Query("select count(m) from Study s join s.members m where s.id = :studyId")
+    long countMembers(@Param("studyId") Long studyId);
+
+    @Query("select new com.studyolle.domain.account.AccountSummary(m.id, m.nickname, m.bio, m.profileImage) " +
+            "from Study s join s.managers m where s.id = :studyId and m.nickname > :after order by m.nickname")
+    List<AccountSummary> findManagers(@Param("studyId") Long studyId, @Param("after") String after, Pageable pageable);
+
+    @Query("select new com.studyolle.domain.account.AccountSummary(m.id, m.nickname, m.bio, m.profileImage) " +
+            "from Study s join s.members m where s.id = :studyId and m.nickname > :after order by m.nickname")
+    List<AccountSummary> findMembers(@Param("studyId") Long studyId, @Param("after") String after, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from study_tags where study_id = :studyId", nativeQuery = true)
+    int deleteAllTags(@Param("studyId") Long studyId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from study_tags where study_id = :studyId and tags_id not in (:ids)", nativeQuery = true)
+    int deleteTagsNotIn(@Param("studyId") Long studyId, @Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into study_tags (study_id, tags_id) select :studyId, t.id from tag t " +
+            "where t.id in (:ids) and not exists " +
+            "(select 1 from study_tags j where j.study_id = :studyId and j.tags_id = t.id)", nativeQuery = true)
+    int insertMissingTags(@Param("studyId") Long studyId, @Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from study_zones where study_id = :studyId and zones_id in (:ids)", nativeQuery = true)
+    int deleteZonesIn(@Param("studyId") Long studyId, @Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into study_zones (study_id, zones_id) select :studyId, z.id from zone z " +
+            "where z.id in (:ids) and not exists " +
+            "(select 1 from study_zones j where j.study_id = :studyId and j.zones_id = z.id)", nativeQuery = true)
+    int insertMissingZones(@Param("studyId") Long studyId, @Param("ids") Collection<Long> ids);
 }
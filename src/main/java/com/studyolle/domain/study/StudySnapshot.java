@@ -0,0 +1,90 @@
+package com.studyolle.domain.study;
+
+import com.studyolle.domain.tag.Tag;
+import com.studyolle.domain.zone.Zone;
+import lombok.Getter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Getter
+public class StudySnapshot {
+
+    private static final int BASE_WEIGHT = 512;
+    private static final int ENTRY_WEIGHT = 64;
+
+    private final Long id;
+
+    private final String path;
+
+    private final String title;
+
+    private final String shortDescription;
+
+    private final String fullDescription;
+
+    private final String image;
+
+    private final boolean useBanner;
+
+    private final boolean published;
+
+    private final boolean closed;
+
+    private final boolean recruiting;
+
+    private final LocalDateTime publishedDateTime;
+
+    private final LocalDateTime closedDateTime;
+
+    private final LocalDateTime recruitingUpdatedDateTime;
+
+    private final Set<Tag> tags;
+
+    private final Set<Zone> zones;
+
+    private final long memberCount;
+
+    private final int weight;
+
+    private StudySnapshot(Study study, long memberCount) {
+        this.id = study.getId();
+        this.path = study.getPath();
+        this.title = study.getTitle();
+        this.shortDescription = study.getShortDescription();
+        this.fullDescription = study.getFullDescription();
+        this.image = study.getImage();
+        this.useBanner = study.isUseBanner();
+        this.published = study.isPublished();
+        this.closed = study.isClosed();
+        this.recruiting = study.isRecruiting();
+        this.publishedDateTime = study.getPublishedDateTime();
+        this.closedDateTime = study.getClosedDateTime();
+        this.recruitingUpdatedDateTime = study.getRecruitingUpdatedDateTime();
+        this.tags = Set.copyOf(study.getTags());
+        this.zones = Set.copyOf(study.getZones());
+        this.memberCount = memberCount;
+        this.weight = computeWeight();
+    }
+
+    public static StudySnapshot of(Study study, long memberCount) {
+        return new StudySnapshot(study, memberCount);
+    }
+
+    public String getEncodedPath() {
+        return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
+    }
+
+    private int computeWeight() {
+        long weight = BASE_WEIGHT
+                + length(title) + length(shortDescription) + length(fullDescription) + length(image)
+                + (long) (tags.size() + zones.size()) * ENTRY_WEIGHT;
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
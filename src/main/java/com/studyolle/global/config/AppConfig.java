@@ -1,18 +1,29 @@
 package com.studyolle.global.config;
 
+import com.studyolle.global.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.NameTokenizers;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 @Configuration
 public class AppConfig {
 
+    private static final String BCRYPT = "bcrypt";
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.PasswordProperties properties = appProperties.getPassword();
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(BCRYPT,
+                Map.of(BCRYPT, new BCryptPasswordEncoder(properties.getBcryptStrength())));
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder,
+                properties.getHashingThreads(), properties.getHashingQueueCapacity(), meterRegistry);
     }
 
     @Bean
@@ -5,9 +5,110 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter @Setter
 @Component
 @ConfigurationProperties("app")
 public class AppProperties {
     private String host;
+
+    private final StudyCacheProperties studyCache = new StudyCacheProperties();
+
+    private final ReferenceDataProperties referenceData = new ReferenceDataProperties();
+
+    private final AuthenticationCacheProperties authenticationCache = new AuthenticationCacheProperties();
+
+    private final RememberMeProperties rememberMe = new RememberMeProperties();
+
+    private final PasswordProperties password = new PasswordProperties();
+
+    private final MailOutboxProperties mailOutbox = new MailOutboxProperties();
+
+    private final NotificationDigestProperties notificationDigest = new NotificationDigestProperties();
+
+    private final NotificationFanOutProperties notificationFanOut = new NotificationFanOutProperties();
+
+    private final NotificationInboxProperties notificationInbox = new NotificationInboxProperties();
+
+    private final PushProperties push = new PushProperties();
+
+    private final EnrollmentProperties enrollment = new EnrollmentProperties();
+
+    @Getter @Setter
+    public static class StudyCacheProperties {
+        private long maximumWeight = 64L * 1024 * 1024;
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+
+    @Getter @Setter
+    public static class ReferenceDataProperties {
+        private boolean async = true;
+        private int batchSize = 500;
+    }
+
+    @Getter @Setter
+    public static class AuthenticationCacheProperties {
+        private long maximumSize = 10_000;
+        private Duration timeToLive = Duration.ofSeconds(60);
+    }
+
+    @Getter @Setter
+    public static class RememberMeProperties {
+        private long maximumSize = 100_000;
+        private Duration timeToLive = Duration.ofHours(1);
+    }
+
+    @Getter @Setter
+    public static class PasswordProperties {
+        private int bcryptStrength = 10;
+        private int hashingThreads = Runtime.getRuntime().availableProcessors();
+        private int hashingQueueCapacity = 100;
+    }
+
+    @Getter @Setter
+    public static class MailOutboxProperties {
+        private int batchSize = 50;
+        private int maxAttempts = 5;
+        private Duration pollInterval = Duration.ofSeconds(5);
+        private Duration initialBackoff = Duration.ofSeconds(30);
+        private Duration maxBackoff = Duration.ofHours(1);
+        private Duration retention = Duration.ofDays(7);
+        private Duration claimTimeout = Duration.ofMinutes(5);
+        private String pruneCron = "0 0 4 * * *";
+    }
+
+    @Getter @Setter
+    public static class NotificationDigestProperties {
+        private String cron = "0 0 8 * * *";
+        private int chunkSize = 500;
+        private int maxItems = 20;
+    }
+
+    @Getter @Setter
+    public static class NotificationFanOutProperties {
+        private int batchSize = 1000;
+    }
+
+    @Getter @Setter
+    public static class NotificationInboxProperties {
+        private long counterMaximumSize = 100_000;
+        private Duration counterTimeToLive = Duration.ofMinutes(30);
+        private Duration readRetention = Duration.ofDays(30);
+        private String pruneCron = "0 30 4 * * *";
+    }
+
+    @Getter @Setter
+    public static class PushProperties {
+        private Duration timeout = Duration.ofMinutes(30);
+        private Duration heartbeatInterval = Duration.ofSeconds(20);
+        private int queueCapacity = 32;
+        private int threads = 4;
+    }
+
+    @Getter @Setter
+    public static class EnrollmentProperties {
+        private int lockStripes = 256;
+        private Duration lockTimeout = Duration.ofSeconds(5);
+    }
 }
@@ -1,6 +1,7 @@
 package com.studyolle.global.config;
 
 import com.studyolle.application.AccountService;
+import com.studyolle.global.security.CachingTokenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -23,13 +24,14 @@ public class SecurityConfig {
 
     private final AccountService accountService;
     private final DataSource dataSource;
+    private final AppProperties appProperties;
 
     @Bean
     protected SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.authorizeRequests()
                 .mvcMatchers("/", "/login", "/sign-up", "/check-email-token",
-                        "/email-login", "/check-email-login", "/login-link").permitAll()
-                .mvcMatchers(HttpMethod.GET, "/profile/*").permitAll()
+                        "/email-login", "/check-email-login", "/login-link", "/search/study").permitAll()
+                .mvcMatchers(HttpMethod.GET, "/profile/*", "/images/profile/**").permitAll()
                 .anyRequest().authenticated();
 
         http.formLogin()
@@ -49,7 +51,7 @@ public class SecurityConfig {
     public PersistentTokenRepository tokenRepository() {
         JdbcTokenRepositoryImpl jdbcTokenRepository = new JdbcTokenRepositoryImpl();
         jdbcTokenRepository.setDataSource(dataSource);
-        return jdbcTokenRepository;
+        return new CachingTokenRepository(jdbcTokenRepository, appProperties);
     }
 
 
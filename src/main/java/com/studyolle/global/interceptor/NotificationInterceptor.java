@@ -0,0 +1,42 @@
+package com.studyolle.global.interceptor;
+
+import com.studyolle.application.NotificationService;
+import com.studyolle.domain.account.UserAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.RedirectView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationInterceptor implements HandlerInterceptor {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || isRedirect(modelAndView)) {
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserAccount)) {
+            return;
+        }
+
+        UserAccount userAccount = (UserAccount) authentication.getPrincipal();
+        modelAndView.addObject("unreadNotificationCount", notificationService.countUnread(userAccount.getAccountId()));
+    }
+
+    private boolean isRedirect(ModelAndView modelAndView) {
+        String viewName = modelAndView.getViewName();
+        return (viewName != null && viewName.startsWith("redirect:")) || modelAndView.getView() instanceof RedirectView;
+    }
+}
@@ -0,0 +1,41 @@
+package com.studyolle.global.resolver;
+
+import com.studyolle.application.CurrentAccountLoader;
+import com.studyolle.domain.account.UserAccount;
+import com.studyolle.global.annotation.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final CurrentAccountLoader currentAccountLoader;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserAccount)) {
+            return null;
+        }
+
+        UserAccount userAccount = (UserAccount) authentication.getPrincipal();
+        if (parameter.getParameterType().isAssignableFrom(UserAccount.class)) {
+            return userAccount;
+        }
+        return currentAccountLoader.load(userAccount);
+    }
+}
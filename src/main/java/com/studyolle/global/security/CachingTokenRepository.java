@@ -0,0 +1,51 @@
+package com.studyolle.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyolle.global.config.AppProperties;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import java.util.Date;
+
+public class CachingTokenRepository implements PersistentTokenRepository {
+
+    private final PersistentTokenRepository delegate;
+    private final Cache<String, PersistentRememberMeToken> tokens;
+
+    public CachingTokenRepository(PersistentTokenRepository delegate, AppProperties appProperties) {
+        AppProperties.RememberMeProperties properties = appProperties.getRememberMe();
+        this.delegate = delegate;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(properties.getTimeToLive())
+                .build();
+    }
+
+    @Override
+    public void createNewToken(PersistentRememberMeToken token) {
+        delegate.createNewToken(token);
+        tokens.put(token.getSeries(), token);
+    }
+
+    @Override
+    public void updateToken(String series, String tokenValue, Date lastUsed) {
+        PersistentRememberMeToken current = tokens.getIfPresent(series);
+        tokens.invalidate(series);
+        delegate.updateToken(series, tokenValue, lastUsed);
+        if (current != null) {
+            tokens.put(series, new PersistentRememberMeToken(current.getUsername(), series, tokenValue, lastUsed));
+        }
+    }
+
+    @Override
+    public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+        return tokens.get(seriesId, delegate::getTokenForSeries);
+    }
+
+    @Override
+    public void removeUserTokens(String username) {
+        tokens.asMap().values().removeIf(token -> token.getUsername().equals(username));
+        delegate.removeUserTokens(username);
+    }
+}
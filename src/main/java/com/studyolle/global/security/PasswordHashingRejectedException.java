@@ -0,0 +1,17 @@
+package com.studyolle.global.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
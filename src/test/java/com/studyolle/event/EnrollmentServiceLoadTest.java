@@ -0,0 +1,154 @@
+package com.studyolle.event;
+
+import com.studyolle.application.AccountCredentialsCache;
+import com.studyolle.application.EnrollmentService;
+import com.studyolle.domain.account.Account;
+import com.studyolle.domain.account.AccountRepository;
+import com.studyolle.domain.enrollment.Enrollment;
+import com.studyolle.domain.enrollment.EnrollmentRepository;
+import com.studyolle.domain.event.Event;
+import com.studyolle.domain.event.EventRepository;
+import com.studyolle.domain.event.EventType;
+import com.studyolle.domain.study.Study;
+import com.studyolle.domain.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("load")
+@SpringBootTest(properties = "app.enrollment.lock-timeout=1m")
+class EnrollmentServiceLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentServiceLoadTest.class);
+
+    private static final int ENROLLERS = 1000;
+    private static final int THREADS = 200;
+    private static final int LIMIT_OF_ENROLLMENTS = 100;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    AccountCredentialsCache accountCredentialsCache;
+    @Autowired
+    StudyRepository studyRepository;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    private Event event;
+    private List<Account> accounts;
+
+    @BeforeEach
+    void create() {
+        accounts = accountRepository.saveAll(IntStream.range(0, ENROLLERS)
+                .mapToObj(i -> Account.builder()
+                        .nickname("enroller" + i)
+                        .email("enroller" + i + "@studyolle.com")
+                        .password("12345678")
+                        .build())
+                .collect(Collectors.toList()));
+
+        Study study = new Study();
+        study.setPath("load-test");
+        study.setTitle("부하 테스트");
+        studyRepository.save(study);
+
+        Event newEvent = new Event();
+        newEvent.setTitle("선착순 모임");
+        newEvent.setEventType(EventType.FCFS);
+        newEvent.setLimitOfEnrollments(LIMIT_OF_ENROLLMENTS);
+        newEvent.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        newEvent.setStartDateTime(LocalDateTime.now().plusDays(2));
+        newEvent.setEndDateTime(LocalDateTime.now().plusDays(3));
+        newEvent.addData(study, accounts.get(0));
+        event = eventRepository.save(newEvent);
+    }
+
+    @AfterEach
+    void clear() {
+        enrollmentRepository.deleteAll();
+        eventRepository.deleteAll();
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+        accountCredentialsCache.evictAll();
+    }
+
+    @DisplayName("동시 참가 신청 시 모집 인원을 초과하지 않음")
+    @Test
+    void concurrentEnrollments() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> latencies = new ArrayList<>();
+        for (Account account : accounts) {
+            latencies.add(executor.submit(() -> {
+                start.await();
+                long started = System.nanoTime();
+                enrollmentService.enroll(event.getId(), account.getId());
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            }));
+        }
+        start.countDown();
+
+        List<Long> millis = new ArrayList<>();
+        for (Future<Long> latency : latencies) {
+            millis.add(latency.get(5, TimeUnit.MINUTES));
+        }
+        executor.shutdown();
+
+        Event enrolled = eventRepository.findById(event.getId()).orElseThrow();
+        List<Enrollment> enrollments = enrollmentRepository.findAll();
+        assertEquals(ENROLLERS, enrollments.size());
+        assertEquals(LIMIT_OF_ENROLLMENTS, enrollments.stream().filter(Enrollment::isAccepted).count());
+        assertEquals(LIMIT_OF_ENROLLMENTS, enrolled.getAcceptedCount());
+        assertEquals(ENROLLERS, enrolled.getEnrollmentCount());
+
+        Collections.sort(millis);
+        long p99 = millis.get((int) Math.ceil(millis.size() * 0.99) - 1);
+        log.info("{} concurrent enrollments, p99 latency {}ms", ENROLLERS, p99);
+    }
+
+    @DisplayName("확정된 참가자가 취소하면 가장 먼저 대기한 참가자가 확정됨")
+    @Test
+    void promoteWaitingEnrollment() {
+        accounts.subList(0, LIMIT_OF_ENROLLMENTS + 2)
+                .forEach(account -> enrollmentService.enroll(event.getId(), account.getId()));
+        Account leaver = accounts.get(0);
+        Account firstWaiting = accounts.get(LIMIT_OF_ENROLLMENTS);
+        Account secondWaiting = accounts.get(LIMIT_OF_ENROLLMENTS + 1);
+
+        enrollmentService.disenroll(event.getId(), leaver.getId());
+
+        assertTrue(enrollmentRepository.findByEventIdAndAccountId(event.getId(), firstWaiting.getId())
+                .orElseThrow().isAccepted());
+        assertFalse(enrollmentRepository.findByEventIdAndAccountId(event.getId(), secondWaiting.getId())
+                .orElseThrow().isAccepted());
+        Event updated = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(LIMIT_OF_ENROLLMENTS, updated.getAcceptedCount());
+        assertEquals(LIMIT_OF_ENROLLMENTS + 1, updated.getEnrollmentCount());
+    }
+}
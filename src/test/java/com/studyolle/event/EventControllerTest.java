@@ -0,0 +1,177 @@
+package com.studyolle.event;
+
+import com.studyolle.api.form.SignUpForm;
+import com.studyolle.application.AccountService;
+import com.studyolle.application.EnrollmentService;
+import com.studyolle.application.StudyCache;
+import com.studyolle.domain.account.Account;
+import com.studyolle.domain.account.AccountRepository;
+import com.studyolle.domain.enrollment.Enrollment;
+import com.studyolle.domain.enrollment.EnrollmentRepository;
+import com.studyolle.domain.event.Event;
+import com.studyolle.domain.event.EventRepository;
+import com.studyolle.domain.event.EventType;
+import com.studyolle.domain.study.Study;
+import com.studyolle.domain.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class EventControllerTest {
+
+    private static final String PATH = "enrollment-test";
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    AccountService accountService;
+    @Autowired
+    EnrollmentService enrollmentService;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    StudyRepository studyRepository;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    @Autowired
+    StudyCache studyCache;
+
+    private Event event;
+    private Enrollment first;
+    private Enrollment second;
+
+    @BeforeEach
+    void create() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("jongchan");
+        signUpForm.setEmail("kkj8219@naver.com");
+        signUpForm.setPassword("12345678");
+        Account jongchan = accountService.processNewAccount(signUpForm);
+
+        Study study = new Study();
+        study.setPath(PATH);
+        study.setTitle("참가 신청 관리 테스트");
+        study.addManager(jongchan);
+        studyRepository.save(study);
+
+        Event newEvent = new Event();
+        newEvent.setTitle("모임");
+        newEvent.setEventType(EventType.CONFIRMATIVE);
+        newEvent.setLimitOfEnrollments(2);
+        newEvent.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        newEvent.setStartDateTime(LocalDateTime.now().plusDays(2));
+        newEvent.setEndDateTime(LocalDateTime.now().plusDays(3));
+        newEvent.addData(study, jongchan);
+        event = eventRepository.save(newEvent);
+
+        first = enroll("member1");
+        second = enroll("member2");
+    }
+
+    @AfterEach
+    void clear() {
+        studyCache.evict(PATH);
+    }
+
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("참가 신청 일괄 수락")
+    @Test
+    void acceptEnrollments() throws Exception {
+        perform(manage("accept", first, second));
+
+        assertTrue(reload(first).isAccepted());
+        assertTrue(reload(second).isAccepted());
+        assertEquals(2, eventRepository.findById(event.getId()).orElseThrow().getAcceptedCount());
+    }
+
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("수락한 참가 신청 취소")
+    @Test
+    void rejectEnrollments() throws Exception {
+        perform(manage("accept", first, second));
+        perform(manage("reject", first));
+
+        assertFalse(reload(first).isAccepted());
+        assertTrue(reload(second).isAccepted());
+        assertEquals(1, eventRepository.findById(event.getId()).orElseThrow().getAcceptedCount());
+    }
+
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("체크인과 체크인 취소")
+    @Test
+    void checkInAndCancel() throws Exception {
+        perform(manage("accept", first));
+        perform(manage("checkin", first));
+        assertTrue(reload(first).isAttended());
+
+        perform(manage("cancel-checkin", first));
+        assertFalse(reload(first).isAttended());
+    }
+
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("CSRF 토큰 없는 요청은 거부")
+    @Test
+    void rejectWithoutCsrf() throws Exception {
+        mockMvc.perform(post(enrollmentsUrl("accept"))
+                .param("enrollmentIds", first.getId().toString()))
+                .andExpect(status().isForbidden());
+
+        assertFalse(reload(first).isAccepted());
+    }
+
+    private Enrollment enroll(String nickname) {
+        Account account = accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@studyolle.com")
+                .password("12345678")
+                .build());
+        enrollmentService.enroll(event.getId(), account.getId());
+        return enrollmentRepository.findByEventIdAndAccountId(event.getId(), account.getId()).orElseThrow();
+    }
+
+    private MockHttpServletRequestBuilder manage(String action, Enrollment... enrollments) {
+        MockHttpServletRequestBuilder request = post(enrollmentsUrl(action)).with(csrf());
+        for (Enrollment enrollment : enrollments) {
+            request.param("enrollmentIds", enrollment.getId().toString());
+        }
+        return request;
+    }
+
+    private void perform(MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request)
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/" + PATH + "/events/" + event.getId()));
+    }
+
+    private String enrollmentsUrl(String action) {
+        return "/study/" + PATH + "/events/" + event.getId() + "/enrollments/" + action;
+    }
+
+    private Enrollment reload(Enrollment enrollment) {
+        return enrollmentRepository.findById(enrollment.getId()).orElseThrow();
+    }
+}
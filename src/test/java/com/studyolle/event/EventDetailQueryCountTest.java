@@ -0,0 +1,138 @@
+package com.studyolle.event;
+
+import com.studyolle.api.form.SignUpForm;
+import com.studyolle.application.AccountCredentialsCache;
+import com.studyolle.application.AccountService;
+import com.studyolle.application.EnrollmentService;
+import com.studyolle.domain.account.Account;
+import com.studyolle.domain.account.AccountRepository;
+import com.studyolle.domain.enrollment.EnrollmentRepository;
+import com.studyolle.domain.event.Event;
+import com.studyolle.domain.event.EventRepository;
+import com.studyolle.domain.event.EventType;
+import com.studyolle.domain.study.Study;
+import com.studyolle.domain.study.StudyRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class EventDetailQueryCountTest {
+
+    private static final long MAX_QUERIES = 8;
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    AccountService accountService;
+    @Autowired
+    EnrollmentService enrollmentService;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    AccountCredentialsCache accountCredentialsCache;
+    @Autowired
+    StudyRepository studyRepository;
+    @Autowired
+    EventRepository eventRepository;
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Event event;
+
+    @BeforeEach
+    void create() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("jongchan");
+        signUpForm.setEmail("kkj8219@naver.com");
+        signUpForm.setPassword("12345678");
+        Account jongchan = accountService.processNewAccount(signUpForm);
+
+        Study study = new Study();
+        study.setPath("query-count");
+        study.setTitle("쿼리 수 테스트");
+        studyRepository.save(study);
+
+        Event newEvent = new Event();
+        newEvent.setTitle("모임");
+        newEvent.setEventType(EventType.FCFS);
+        newEvent.setLimitOfEnrollments(100);
+        newEvent.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        newEvent.setStartDateTime(LocalDateTime.now().plusDays(2));
+        newEvent.setEndDateTime(LocalDateTime.now().plusDays(3));
+        newEvent.addData(study, jongchan);
+        event = eventRepository.save(newEvent);
+    }
+
+    @AfterEach
+    void clear() {
+        enrollmentRepository.deleteAll();
+        eventRepository.deleteAll();
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+        accountCredentialsCache.evictAll();
+    }
+
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("모임 조회 쿼리 수는 참가 신청 수와 무관함")
+    @Test
+    void queryCountIndependentOfEnrollments() throws Exception {
+        enroll(0, 2);
+        getEvent();
+        long fewEnrollments = countQueries();
+
+        enroll(2, 50);
+        long manyEnrollments = countQueries();
+
+        assertEquals(fewEnrollments, manyEnrollments);
+        assertTrue(manyEnrollments <= MAX_QUERIES, manyEnrollments + " queries");
+    }
+
+    private void enroll(int from, int to) {
+        List<Account> accounts = accountRepository.saveAll(IntStream.range(from, to)
+                .mapToObj(i -> Account.builder()
+                        .nickname("member" + i)
+                        .email("member" + i + "@studyolle.com")
+                        .password("12345678")
+                        .build())
+                .collect(Collectors.toList()));
+        accounts.forEach(account -> enrollmentService.enroll(event.getId(), account.getId()));
+    }
+
+    private long countQueries() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        getEvent();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void getEvent() throws Exception {
+        mockMvc.perform(get("/study/query-count/events/" + event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("event/view"));
+    }
+}
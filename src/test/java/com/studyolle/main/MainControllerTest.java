@@ -1,6 +1,7 @@
 package com.studyolle.main;
 
 import com.studyolle.api.form.SignUpForm;
+import com.studyolle.application.AccountCredentialsCache;
 import com.studyolle.application.AccountService;
 import com.studyolle.domain.account.AccountRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -29,6 +30,8 @@ class MainControllerTest {
     AccountService accountService;
     @Autowired
     AccountRepository accountRepository;
+    @Autowired
+    AccountCredentialsCache accountCredentialsCache;
 
     @BeforeEach
     void createAccount() {
@@ -42,6 +45,7 @@ class MainControllerTest {
     @AfterEach
     void clear() {
         accountRepository.deleteAll();
+        accountCredentialsCache.evictAll();
     }
 
     @Test
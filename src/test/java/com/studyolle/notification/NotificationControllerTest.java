@@ -0,0 +1,131 @@
+package com.studyolle.notification;
+
+import com.studyolle.api.form.SignUpForm;
+import com.studyolle.application.AccountCredentialsCache;
+import com.studyolle.application.AccountService;
+import com.studyolle.domain.account.Account;
+import com.studyolle.domain.account.AccountRepository;
+import com.studyolle.domain.notification.Notification;
+import com.studyolle.domain.notification.NotificationRepository;
+import com.studyolle.domain.notification.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class NotificationControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    AccountService accountService;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    AccountCredentialsCache accountCredentialsCache;
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @BeforeEach
+    void create() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("jongchan");
+        signUpForm.setEmail("kkj8219@naver.com");
+        signUpForm.setPassword("12345678");
+        accountService.processNewAccount(signUpForm);
+    }
+
+    @AfterEach
+    void delete() {
+        notificationRepository.deleteAll();
+        accountRepository.deleteAll();
+        accountCredentialsCache.evictAll();
+    }
+
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("읽지 않은 알림 목록")
+    @Test
+    void notifications() throws Exception {
+        Account jongchan = accountRepository.findByNickname("jongchan");
+        saveNotification(jongchan);
+        saveNotification(jongchan);
+
+        mockMvc.perform(get("/notifications"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("notification/list"))
+                .andExpect(model().attribute("isNew", true))
+                .andExpect(model().attribute("unreadNotificationCount", 2L));
+    }
+
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("선택한 알림 읽음 처리")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void markRead() throws Exception {
+        Account jongchan = accountRepository.findByNickname("jongchan");
+        Notification read = saveNotification(jongchan);
+        Notification unread = saveNotification(jongchan);
+
+        mockMvc.perform(get("/notifications"))
+                .andExpect(model().attribute("unreadNotificationCount", 2L));
+
+        mockMvc.perform(post("/notifications/read")
+                        .param("ids", read.getId().toString())
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/notifications"));
+
+        assertTrue(notificationRepository.findById(read.getId()).orElseThrow().isChecked());
+        assertFalse(notificationRepository.findById(unread.getId()).orElseThrow().isChecked());
+        mockMvc.perform(get("/notifications"))
+                .andExpect(model().attribute("unreadNotificationCount", 1L));
+    }
+
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("선택한 알림이 없으면 읽음 처리하지 않음")
+    @Test
+    void markRead_empty() throws Exception {
+        Account jongchan = accountRepository.findByNickname("jongchan");
+        Notification first = saveNotification(jongchan);
+        Notification second = saveNotification(jongchan);
+
+        mockMvc.perform(post("/notifications/read")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/notifications"));
+
+        assertFalse(notificationRepository.findById(first.getId()).orElseThrow().isChecked());
+        assertFalse(notificationRepository.findById(second.getId()).orElseThrow().isChecked());
+    }
+
+    private Notification saveNotification(Account account) {
+        return notificationRepository.save(Notification.builder()
+                .accountId(account.getId())
+                .title("새 스터디")
+                .link("/study/test")
+                .message("새 스터디가 공개되었습니다.")
+                .notificationType(NotificationType.STUDY_CREATED)
+                .createdDateTime(LocalDateTime.now())
+                .build());
+    }
+}
@@ -3,8 +3,12 @@ package com.studyolle.settings;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolle.api.form.SignUpForm;
 import com.studyolle.api.form.TagForm;
+import com.studyolle.api.form.TagsForm;
 import com.studyolle.api.form.ZoneForm;
+import com.studyolle.api.form.ZonesForm;
+import com.studyolle.application.AccountCredentialsCache;
 import com.studyolle.application.AccountService;
+import com.studyolle.application.ZoneRegistry;
 import com.studyolle.domain.account.AccountRepository;
 import com.studyolle.domain.tag.TagRepository;
 import com.studyolle.domain.zone.ZoneRepository;
@@ -25,6 +29,10 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import static com.studyolle.api.constants.Url.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -32,7 +40,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.reference-data.async=false")
 @AutoConfigureMockMvc
 @Transactional
 class SettingsControllerTest {
@@ -44,6 +52,8 @@ class SettingsControllerTest {
     @Autowired
     AccountRepository accountRepository;
     @Autowired
+    AccountCredentialsCache accountCredentialsCache;
+    @Autowired
     PasswordEncoder passwordEncoder;
     @Autowired
     ObjectMapper objectMapper;
@@ -51,6 +61,8 @@ class SettingsControllerTest {
     TagRepository tagRepository;
     @Autowired
     ZoneRepository zoneRepository;
+    @Autowired
+    ZoneRegistry zoneRegistry;
 
     private Zone testZone = Zone.builder().city("테스트").localNameOfCity("테스트시").province("테스트주").build();
 
@@ -62,11 +74,13 @@ class SettingsControllerTest {
         signUpForm.setPassword("12345678");
         accountService.processNewAccount(signUpForm);
         zoneRepository.save(testZone);
+        zoneRegistry.reload(zoneRepository.findAll());
     }
 
     @AfterEach
     void delete() {
         accountRepository.deleteAll();
+        accountCredentialsCache.evictAll();
         zoneRepository.deleteAll();
     }
 
@@ -120,6 +134,27 @@ class SettingsControllerTest {
         assertFalse(jongchan.getZones().contains(byCityAndProvince));
     }
 
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("지역 태그 일괄 수정 - 변경분만 반영")
+    @Test
+    void update_zones_batch() throws Exception {
+        Account jongchan = accountRepository.findByNickname("jongchan");
+        accountService.addZone(jongchan, testZone);
+        Zone otherZone = zoneRepository.save(Zone.builder().city("다른").localNameOfCity("다른시").province("테스트주").build());
+        zoneRegistry.reload(zoneRepository.findAll());
+
+        ZonesForm zonesForm = new ZonesForm();
+        zonesForm.setAddedZoneNames(List.of(otherZone.toString()));
+
+        mockMvc.perform(post(ROOT + SETTINGS + ZONES + "/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(zonesForm)))
+                .andExpect(status().isOk());
+
+        assertEquals(Set.of(testZone, otherZone), accountService.getZones(jongchan));
+    }
+
 
     @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("계정의 태그 수정 폼")
@@ -173,6 +208,41 @@ class SettingsControllerTest {
         assertFalse(jongchan.getTags().contains(newTag));
     }
 
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("계정 태그 일괄 수정")
+    @Test
+    void updateTags() throws Exception {
+        Account jongchan = accountRepository.findByNickname("jongchan");
+        accountService.addTag(jongchan, tagRepository.save(Tag.builder().title("oldTag").build()));
+
+        TagsForm tagsForm = new TagsForm();
+        tagsForm.setTagTitles(List.of("newTag", "otherTag"));
+
+        mockMvc.perform(post(ROOT + SETTINGS + TAGS + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(tagsForm))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        Set<String> titles = accountService.getTags(jongchan).stream()
+                .map(Tag::getTitle)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("newTag", "otherTag"), titles);
+    }
+
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("태그 일괄 수정 - 빈 태그 이름은 거부")
+    @Test
+    void updateTags_with_blank_title() throws Exception {
+        mockMvc.perform(post(ROOT + SETTINGS + TAGS + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tagTitles\": [\"newTag\", null, \" \"]}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        assertNull(tagRepository.findByTitle("newTag"));
+    }
+
     @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("닉네임 수정 폼")
     @Test
@@ -257,6 +327,22 @@ class SettingsControllerTest {
         assertNull(jongchan.getBio());
     }
 
+    @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("프로필 수정하기 - 잘못된 프로필 이미지")
+    @Test
+    void updateProfile_invalidImage() throws Exception {
+        mockMvc.perform(post(ROOT + SETTINGS + PROFILE)
+                        .param("bio", "짧은 소개를 수정하는 경우.")
+                        .param("profileImage", "data:image/png;base64,@@not-base64@@")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name(SETTINGS + PROFILE))
+                .andExpect(model().attributeHasFieldErrors("profile", "profileImage"));
+
+        Account jongchan = accountRepository.findByNickname("jongchan");
+        assertNull(jongchan.getProfileImage());
+    }
+
     @WithUserDetails(value = "jongchan", setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("패스워드 수정 폼")
     @Test